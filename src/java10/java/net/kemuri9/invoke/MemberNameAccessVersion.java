@@ -30,7 +30,8 @@ final class MemberNameAccessVersion extends MemberNameAccess {
         Class<?> memberNameType = VersionSupport.getType(fullLookup, Utils.TYPE_MEMBER_NAME);
         MethodHandles.Lookup lookup = fullLookup.in(factoryType);
         resolve = lookup.findVirtual(factoryType, "resolve",
-                MethodType.methodType(memberNameType, byte.class, memberNameType, Class.class));
+                MethodType.methodType(memberNameType, byte.class, memberNameType, Class.class))
+                .asType(MethodType.methodType(Member.class, Object.class, byte.class, Member.class, Class.class));
     }
 
     @Override
@@ -41,6 +42,11 @@ final class MemberNameAccessVersion extends MemberNameAccess {
             }
             return member;
         }
-        return InvokeUtils.invoke(resolve, factory, getReferenceKind(member), member, Utils.getLookupType(lookup));
+        try {
+            return (Member) resolve.invokeExact(factory, getReferenceKind(member), member,
+                    Utils.getLookupType(lookup));
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
     }
 }
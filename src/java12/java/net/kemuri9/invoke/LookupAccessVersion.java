@@ -33,22 +33,29 @@ final class LookupAccessVersion extends LookupAccess {
         Class<?> memberNameType = VersionSupport.getType(InvokeUtils.getFullAccessLookup(), Utils.TYPE_MEMBER_NAME);
         resolveMethod = lookup.findVirtual(MethodHandles.Lookup.class, "getDirectMethodCommon",
                 MethodType.methodType(MethodHandle.class, byte.class, Class.class, memberNameType,
-                        boolean.class, boolean.class, Class.class));
+                        boolean.class, boolean.class, Class.class))
+                .asType(MethodType.methodType(MethodHandle.class, MethodHandles.Lookup.class, byte.class,
+                        Class.class, Member.class, boolean.class, boolean.class, Class.class));
         resolveVarHandle = lookup.findVirtual(MethodHandles.Lookup.class, "getFieldVarHandleCommon",
                 MethodType.methodType(VarHandle.class, byte.class, byte.class, Class.class,
-                        memberNameType, memberNameType, boolean.class));
+                        memberNameType, memberNameType, boolean.class))
+                .asType(MethodType.methodType(VarHandle.class, MethodHandles.Lookup.class, byte.class, byte.class,
+                        Class.class, Member.class, Member.class, boolean.class));
     }
 
     @Override
     MethodHandle resolveMethod(MethodHandles.Lookup lookup, Member member) {
         byte refKind = MemberNameAccess.getInstance().getReferenceKind(member);
-        if (Modifier.isPrivate(member.getModifiers()) && Utils.isFullLookup(lookup)) {
-            /* starting in java 12 private methods are not resolvable from full access directly,
-             * requiring to lookup as the target class to be able to resolve */
-            lookup = lookup.in(member.getDeclaringClass());
+        /* starting in java 12 private methods are not resolvable from full access directly,
+         * requiring to lookup as the target class to be able to resolve */
+        MethodHandles.Lookup resolveLookup = (Modifier.isPrivate(member.getModifiers()) && Utils.isFullLookup(lookup))
+                ? lookup.in(member.getDeclaringClass()) : lookup;
+        try {
+            return (MethodHandle) resolveMethod.invokeExact(resolveLookup, refKind,
+                    member.getDeclaringClass(), member, false, true, Utils.getLookupType(resolveLookup));
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
         }
-        return InvokeUtils.invoke(resolveMethod, lookup, refKind, member.getDeclaringClass(),
-                member, false, true, Utils.getLookupType(lookup));
     }
     
     VarHandle resolveVarHandle(MethodHandles.Lookup lookup, Field field) throws IllegalAccessException {
@@ -58,8 +65,13 @@ final class LookupAccessVersion extends LookupAccess {
     VarHandle resolveVarHandle(MethodHandles.Lookup lookup, RefGetSet members) {
         MemberNameAccess mnAccess = MemberNameAccess.getInstance();
         byte getRefKind = mnAccess.getReferenceKind(members.getter);
-        byte putRefKind = mnAccess.getReferenceKind(members.setter);
-        return InvokeUtils.invoke(resolveVarHandle, lookup, getRefKind, putRefKind,
-                members.getter.getDeclaringClass(), members.getter, members.setter, false);
+        Member setter = members.getSetter();
+        byte putRefKind = mnAccess.getReferenceKind(setter);
+        try {
+            return (VarHandle) resolveVarHandle.invokeExact(lookup, getRefKind, putRefKind,
+                    members.getter.getDeclaringClass(), members.getter, setter, false);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
     }
 }
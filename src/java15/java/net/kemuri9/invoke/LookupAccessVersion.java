@@ -22,54 +22,86 @@ import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 final class LookupAccessVersion extends LookupAccess {
 
     protected final MethodHandle resolveMethod;
     protected final MethodHandle resolveVarHandle;
+    /** untrusted getter and setter of each field, which are the same for all lookups */
+    private final ClassValue<ConcurrentMap<Field, RefGetSet>> untrustedMembers =
+            new ClassValue<ConcurrentMap<Field, RefGetSet>>() {
+        @Override
+        protected ConcurrentMap<Field, RefGetSet> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>(4);
+        }
+    };
+    /** resolved VarHandles of fields per access level, as the resolution repeats the access check each time */
+    private final AccessCache<ConcurrentMap<Field, VarHandle>> varHandles = new AccessCache<>();
 
     protected LookupAccessVersion() throws Throwable {
         MethodHandles.Lookup lookup = InvokeUtils.getFullAccessLookup().in(MethodHandles.Lookup.class);
         Class<?> memberNameType = VersionSupport.getType(InvokeUtils.getFullAccessLookup(), Utils.TYPE_MEMBER_NAME);
         resolveMethod = lookup.findVirtual(MethodHandles.Lookup.class, "getDirectMethodCommon",
                 MethodType.methodType(MethodHandle.class, byte.class, Class.class, memberNameType,
-                        boolean.class, boolean.class, MethodHandles.Lookup.class));
+                        boolean.class, boolean.class, MethodHandles.Lookup.class))
+                .asType(MethodType.methodType(MethodHandle.class, MethodHandles.Lookup.class, byte.class,
+                        Class.class, Member.class, boolean.class, boolean.class, MethodHandles.Lookup.class));
         resolveVarHandle = lookup.findVirtual(MethodHandles.Lookup.class, "getFieldVarHandleCommon",
                 MethodType.methodType(VarHandle.class, byte.class, byte.class, Class.class,
-                        memberNameType, memberNameType, boolean.class));
+                        memberNameType, memberNameType, boolean.class))
+                .asType(MethodType.methodType(VarHandle.class, MethodHandles.Lookup.class, byte.class, byte.class,
+                        Class.class, Member.class, Member.class, boolean.class));
     }
 
     @Override
     MethodHandle resolveMethod(MethodHandles.Lookup lookup, Member member) {
         byte refKind = MemberNameAccess.getInstance().getReferenceKind(member);
-        if (Modifier.isPrivate(member.getModifiers()) && Utils.isFullLookup(lookup)) {
-            /* starting in java 12 private methods are not resolvable from full access directly,
-             * requiring to lookup as the target class to be able to resolve */
-            lookup = lookup.in(member.getDeclaringClass());
+        /* starting in java 12 private methods are not resolvable from full access directly,
+         * requiring to lookup as the target class to be able to resolve */
+        MethodHandles.Lookup resolveLookup = (Modifier.isPrivate(member.getModifiers()) && Utils.isFullLookup(lookup))
+                ? lookup.in(member.getDeclaringClass()) : lookup;
+        try {
+            return (MethodHandle) resolveMethod.invokeExact(resolveLookup, refKind,
+                    member.getDeclaringClass(), member, false, true, resolveLookup);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
         }
-        return InvokeUtils.invoke(resolveMethod, lookup, refKind, member.getDeclaringClass(),
-                member, false, true, lookup);
     }
     
     VarHandle resolveVarHandle(MethodHandles.Lookup lookup, Field field) throws IllegalAccessException {
+        Class<?> declaringType = field.getDeclaringClass();
+        ConcurrentMap<Field, VarHandle> handles = varHandles.get(lookup, declaringType);
+        if (handles == null) {
+            handles = varHandles.put(lookup, declaringType, new ConcurrentHashMap<>(4));
+        }
+        VarHandle handle = handles.get(field);
+        if (handle != null) {
+            return handle;
+        }
         // do a plain unreflect to verify the accesses first though
         lookup.unreflectGetter(field);
-        MemberNameAccessVersion mnAccess = MemberNameAccess.getInstance();
-        Member getter = mnAccess.untrust(mnAccess.newMember(field, false));
-        Member setter = mnAccess.untrust(mnAccess.newMember(field, true));
-        VarHandle handle = resolveVarHandle(lookup, getter, setter);
-        return handle;
+        RefGetSet members = untrustedMembers.get(declaringType).computeIfAbsent(field,
+                (f)-> new RefGetSet(MemberNameAccess.getInstance().newMember(f, false)));
+        handle = resolveVarHandle(lookup, members);
+        VarHandle existing = handles.putIfAbsent(field, handle);
+        return (existing == null) ? handle : existing;
     }
     
     VarHandle resolveVarHandle(MethodHandles.Lookup lookup, Member getter, Member setter) {
         MemberNameAccess mnAccess = MemberNameAccess.getInstance();
         byte getRefKind = mnAccess.getReferenceKind(getter);
         byte putRefKind = mnAccess.getReferenceKind(setter);
-        return InvokeUtils.invoke(resolveVarHandle, lookup, getRefKind, putRefKind,
-                getter.getDeclaringClass(), getter, setter, false);
+        try {
+            return (VarHandle) resolveVarHandle.invokeExact(lookup, getRefKind, putRefKind,
+                    getter.getDeclaringClass(), getter, setter, false);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
     }
 
     VarHandle resolveVarHandle(MethodHandles.Lookup lookup, RefGetSet members) {
-       return resolveVarHandle(lookup, members.getter, members.setter);
+       return resolveVarHandle(lookup, members.getter, members.getSetter());
     }
 }
@@ -32,7 +32,9 @@ final class MemberNameAccessVersion extends MemberNameAccess {
         Class<?> memberNameType = VersionSupport.getType(fullLookup, Utils.TYPE_MEMBER_NAME);
         MethodHandles.Lookup lookup = fullLookup.in(factoryType);
         resolve = lookup.findVirtual(factoryType, "resolve",
-                MethodType.methodType(memberNameType, byte.class, memberNameType, Class.class, boolean.class));
+                MethodType.methodType(memberNameType, byte.class, memberNameType, Class.class, boolean.class))
+                .asType(MethodType.methodType(Member.class, Object.class, byte.class, Member.class,
+                        Class.class, boolean.class));
         memNameFlags = fullLookup.in(memberNameType).findVarHandle(memberNameType, "flags", int.class);
     }
     
@@ -40,7 +42,7 @@ final class MemberNameAccessVersion extends MemberNameAccess {
         /* starting in java 15, final fields have a trust concept to where they can no longer be set.
          * untrust the fields so they can always be set when using the full access lookup */
         try {
-            int flags = (Integer) memNameFlags.get(member);
+            int flags = (int) memNameFlags.get(member);
             int newFlags = flags & ~0x00200000;
             if (flags != newFlags) {
                 memNameFlags.set(member, newFlags);
@@ -57,6 +59,11 @@ final class MemberNameAccessVersion extends MemberNameAccess {
             }
             return member;
         }
-        return InvokeUtils.invoke(resolve, factory, getReferenceKind(member), member, Utils.getLookupType(lookup), false);
+        try {
+            return (Member) resolve.invokeExact(factory, getReferenceKind(member), member,
+                    Utils.getLookupType(lookup), false);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
     }
 }
@@ -23,7 +23,8 @@ import java.lang.reflect.Member;
 final class RefGetSet {
 
     final Member getter;
-    final Member setter;
+    /** the setter is required to form a VarHandle, so it is created immediately */
+    private final Member setter;
 
     RefGetSet(Member getter) {
         // untrust the field so that it can be set even if final when using the full access lookup
@@ -34,4 +35,8 @@ final class RefGetSet {
                 (Class<?>) memName.getType(getter), (byte) (memName.getReferenceKind(getter) + 2));
         this.setter = memName.untrust(setter);
     }
+
+    Member getSetter() {
+        return setter;
+    }
 }
@@ -0,0 +1,169 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Implementation of {@link InvokeRecord}
+ *
+ * @param <R> Type of Record
+ */
+final class InvokeRecordImpl<R> implements InvokeRecord<R> {
+
+    private final Class<R> type;
+    private final List<String> names;
+    private final List<InvokeExecutable<?>> accessors;
+    private final InvokeExecutable<R> constructor;
+    /** accessor handles erased to (Object)Object for use with invokeExact */
+    private final MethodHandle[] getters;
+    private final ConcurrentMap<List<String>, MethodHandle> withers = new ConcurrentHashMap<>();
+    /** single component withers by name, erased to (Object,Object)Object for use with invokeExact */
+    private final ConcurrentMap<String, MethodHandle> componentWithers = new ConcurrentHashMap<>();
+
+    InvokeRecordImpl(Class<R> type, List<String> names, List<InvokeExecutable<?>> accessors,
+            InvokeExecutable<R> constructor) {
+        this.type = type;
+        this.names = Collections.unmodifiableList(names);
+        this.accessors = Collections.unmodifiableList(accessors);
+        this.constructor = constructor;
+        MethodType erased = MethodType.methodType(Object.class, Object.class);
+        getters = new MethodHandle[accessors.size()];
+        for (int idx = 0; idx < getters.length; ++idx) {
+            getters[idx] = accessors.get(idx).getHandle().asType(erased);
+        }
+    }
+
+    private int indexOf(String name) {
+        int idx = names.indexOf(name);
+        if (idx < 0) {
+            throw new IllegalArgumentException(name + " is not a component of " + type.getName());
+        }
+        return idx;
+    }
+
+    private MethodHandle getComponentWither(String name) {
+        MethodHandle wither = componentWithers.get(name);
+        if (wither == null) {
+            wither = getWither(name).asType(MethodType.genericMethodType(2));
+            MethodHandle existing = componentWithers.putIfAbsent(name, wither);
+            wither = (existing == null) ? wither : existing;
+        }
+        return wither;
+    }
+
+    private MethodHandle newWither(List<String> replace) {
+        MethodHandle handle = constructor.getHandle().asFixedArity();
+        int[] order = new int[names.size()];
+        Class<?>[] paramTypes = new Class<?>[replace.size() + 1];
+        paramTypes[0] = type;
+        for (int idx = 0; idx < replace.size(); ++idx) {
+            int component = indexOf(replace.get(idx));
+            if (order[component] != 0) {
+                throw new IllegalArgumentException(replace.get(idx) + " is specified more than once");
+            }
+            // parameter 0 is the record to copy, so replacement values start at 1
+            order[component] = idx + 1;
+            paramTypes[idx + 1] = handle.type().parameterType(component);
+        }
+        // components that are not replaced are copied by filtering the record through their accessor
+        for (int idx = 0; idx < order.length; ++idx) {
+            if (order[idx] == 0) {
+                handle = MethodHandles.filterArguments(handle, idx, accessors.get(idx).getHandle());
+            }
+        }
+        return MethodHandles.permuteArguments(handle, MethodType.methodType(type, paramTypes), order);
+    }
+
+    @Override
+    public <T> InvokeExecutable<T> getAccessor(String name) {
+        return Utils.cast(accessors.get(indexOf(name)));
+    }
+
+    @Override
+    public List<InvokeExecutable<?>> getAccessors() {
+        return accessors;
+    }
+
+    @Override
+    public List<String> getComponentNames() {
+        return names;
+    }
+
+    @Override
+    public Object[] getComponents(R record) {
+        Utils.notNull(record, "record");
+        Object[] values = new Object[getters.length];
+        try {
+            for (int idx = 0; idx < getters.length; ++idx) {
+                values[idx] = (Object) getters[idx].invokeExact((Object) record);
+            }
+        } catch (Throwable t) {
+            throw Utils.asException(t, IllegalArgumentException.class, ()-> record + " is not a valid value");
+        }
+        return values;
+    }
+
+    @Override
+    public InvokeExecutable<R> getConstructor() {
+        return constructor;
+    }
+
+    @Override
+    public Class<R> getType() {
+        return type;
+    }
+
+    @Override
+    public MethodHandle getWither(String... names) {
+        if (names == null || names.length == 0) {
+            throw new IllegalArgumentException("names is null or empty");
+        }
+        List<String> key = Arrays.asList(names.clone());
+        MethodHandle wither = withers.get(key);
+        if (wither == null) {
+            wither = newWither(key);
+            MethodHandle existing = withers.putIfAbsent(key, wither);
+            wither = (existing == null) ? wither : existing;
+        }
+        return wither;
+    }
+
+    @Override
+    public R with(R record, String name, Object value) {
+        Utils.notNull(record, "record");
+        Utils.notNull(name, "name");
+        MethodHandle wither = getComponentWither(name);
+        try {
+            return Utils.cast((Object) wither.invokeExact((Object) record, value));
+        } catch (Throwable t) {
+            throw Utils.asException(t, IllegalArgumentException.class,
+                    ()-> value + " is not a valid value for " + name);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return type.getName() + names;
+    }
+}
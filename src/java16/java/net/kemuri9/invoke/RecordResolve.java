@@ -0,0 +1,74 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+
+final class RecordResolve {
+
+    private static final AccessCache<InvokeRecord<?>> RECORDS = new AccessCache<>();
+
+    static <R> InvokeRecord<R> getRecord(Lookup lookup, Class<R> type) throws IllegalAccessException {
+        InvokeRecord<?> record = RECORDS.get(lookup, type);
+        if (record == null) {
+            record = RECORDS.put(lookup, type, newRecord(lookup, type));
+        }
+        return Utils.cast(record);
+    }
+
+    private static Class<?>[] getTypes(RecordComponent[] components) {
+        Class<?>[] types = new Class<?>[components.length];
+        for (int idx = 0; idx < components.length; ++idx) {
+            types[idx] = components[idx].getType();
+        }
+        return types;
+    }
+
+    private static <R> InvokeRecord<R> newRecord(Lookup lookup, Class<R> type) throws IllegalAccessException {
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException(type.getName() + " is not a record");
+        }
+        RecordComponent[] components;
+        Constructor<R> ctor;
+        try {
+            components = type.getRecordComponents();
+            ctor = type.getDeclaredConstructor(getTypes(components));
+        } catch (SecurityException ex) {
+            // SM blocked access, so retry with it disabled
+            components = SecurityManagerDisabler.getInstance().withSecurityDisabled(type::getRecordComponents);
+            Class<?>[] componentTypes = getTypes(components);
+            ctor = SecurityManagerDisabler.getInstance().withSecurityDisabled(()->
+                type.getDeclaredConstructor(componentTypes)
+            );
+        } catch (NoSuchMethodException ex) {
+            // records always declare a canonical constructor
+            throw new IllegalStateException(type.getName() + " has no canonical constructor", ex);
+        }
+        List<String> names = new ArrayList<>(components.length);
+        List<InvokeExecutable<?>> accessors = new ArrayList<>(components.length);
+        for (RecordComponent component : components) {
+            names.add(component.getName());
+            accessors.add(InvokeUtils.getMethod(lookup, component.getAccessor()));
+        }
+        return new InvokeRecordImpl<>(type, names, accessors, InvokeUtils.getConstructor(lookup, ctor));
+    }
+
+    private RecordResolve() {}
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Loops applying a handle to each element of an array,
+ * formed with {@link MethodHandles#countedLoop} so that a whole array is a single invocation
+ */
+final class ArrayLoops {
+
+    /**
+     * Create the loop storing the result of a handle on each element, as {@code dest[i] = handle(source[i])}
+     * @param handle {@link MethodHandle} of type {@code (Object)E}
+     * @param arrayType array type with component type {@code E}
+     * @return {@link MethodHandle} of type {@code (Object[],E[])void}
+     */
+    static MethodHandle map(MethodHandle handle, Class<?> arrayType) {
+        // dest[i] = handle(source[i]), as (E[] dest, int i, Object[] source, int i)void
+        MethodHandle value = MethodHandles.filterReturnValue(MethodHandles.arrayElementGetter(Object[].class), handle);
+        MethodHandle body = MethodHandles.collectArguments(MethodHandles.arrayElementSetter(arrayType), 2, value);
+        body = MethodHandles.permuteArguments(body,
+                MethodType.methodType(void.class, int.class, Object[].class, arrayType), 2, 0, 1, 0);
+        return loop(body, Object[].class, arrayType);
+    }
+
+    /**
+     * Create the loop applying a handle on each element with the value of the same index,
+     * as {@code handle(dest[i], source[i])}
+     * @param handle {@link MethodHandle} of type {@code (Object,E)void}
+     * @param arrayType array type with component type {@code E}
+     * @return {@link MethodHandle} of type {@code (E[],Object[])void}
+     */
+    static MethodHandle scatter(MethodHandle handle, Class<?> arrayType) {
+        // handle(dest[i], source[i]), as (Object[] dest, int i, E[] source, int i)void
+        MethodHandle body = MethodHandles.collectArguments(handle, 0,
+                MethodHandles.arrayElementGetter(Object[].class));
+        body = MethodHandles.collectArguments(body, 2, MethodHandles.arrayElementGetter(arrayType));
+        body = MethodHandles.permuteArguments(body,
+                MethodType.methodType(void.class, int.class, arrayType, Object[].class), 2, 0, 1, 0);
+        return loop(body, arrayType, Object[].class);
+    }
+
+    /**
+     * Loop a body over the length of the source array
+     * @param body {@link MethodHandle} of type {@code (int,S,D)void}
+     * @param sourceType array type of the source
+     * @param destType array type of the destination
+     * @return {@link MethodHandle} of type {@code (S,D)void}
+     */
+    private static MethodHandle loop(MethodHandle body, Class<?> sourceType, Class<?> destType) {
+        MethodHandle iterations = MethodHandles.dropArguments(MethodHandles.arrayLength(sourceType), 1, destType);
+        return MethodHandles.countedLoop(iterations, null, body);
+    }
+
+    private ArrayLoops() {}
+}
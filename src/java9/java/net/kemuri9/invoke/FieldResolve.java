@@ -35,15 +35,29 @@ final class FieldResolve {
         return newField(field, handle);
     }
 
+    /**
+     * Resolve a field through the lookup variation
+     * @param lookup {@link Lookup} to resolve with
+     * @param ref {@link RefGetSet} of the field
+     * @return {@link InvokeField} of the field, {@code null} when {@code lookup} does not have access to it
+     */
+    static InvokeField getField(Lookup lookup, RefGetSet ref) {
+        LookupAccessVersion access = LookupAccess.getInstance();
+        try {
+            VarHandle handle = access.resolveVarHandle(lookup, ref);
+            return newField(ref.getter, handle);
+        } catch (RuntimeException ex) {
+            // do not have access permissions
+            return null;
+        }
+    }
+
     static List<InvokeField> getFields(Lookup lookup, List<RefGetSet> fieldMembers) {
         List<InvokeField> ret = new ArrayList<>(fieldMembers.size());
-        LookupAccessVersion access = LookupAccess.getInstance();
         for (RefGetSet ref : fieldMembers) {
-            try {
-                VarHandle handle = access.resolveVarHandle(lookup, ref);
-                ret.add(newField(ref.getter, handle));
-            } catch (RuntimeException ex) {
-                // do not have access permissions, so skip it
+            InvokeField field = getField(lookup, ref);
+            if (field != null) {
+                ret.add(field);
             }
         }
         return ret;
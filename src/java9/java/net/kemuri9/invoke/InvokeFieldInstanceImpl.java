@@ -22,6 +22,8 @@ import java.util.function.Function;
 
 final class InvokeFieldInstanceImpl<C, F> extends InvokeFieldImpl9 implements InvokeFieldInstance<C, F> {
 
+    private final Lazy<FieldBatch> batch = new Lazy<>(()-> new FieldBatch(this));
+
     InvokeFieldInstanceImpl(Member member, VarHandle handle) {
         super(member, handle);
     }
@@ -31,7 +33,7 @@ final class InvokeFieldInstanceImpl<C, F> extends InvokeFieldImpl9 implements In
         try {
             handle.set(t, u);
         } catch (Throwable ex) {
-            throw Utils.asException(ex, IllegalArgumentException.class, t + " and " + u + " are invalid values");
+            throw Utils.asException(ex, IllegalArgumentException.class, ()-> t + " and " + u + " are invalid values");
         }
     }
 
@@ -40,7 +42,7 @@ final class InvokeFieldInstanceImpl<C, F> extends InvokeFieldImpl9 implements In
         try {
             return Utils.cast(handle.get(t));
         } catch (Throwable ex) {
-            throw Utils.asException(ex, IllegalArgumentException.class, t + " is an invalid value");
+            throw Utils.asException(ex, IllegalArgumentException.class, ()-> t + " is an invalid value");
         }
     }
 
@@ -54,6 +56,26 @@ final class InvokeFieldInstanceImpl<C, F> extends InvokeFieldImpl9 implements In
         throw new IllegalStateException(this + " is an instance field");
     }
 
+    @Override
+    public void extract(Object[] source, int[] dest) {
+        batch.get().extract(source, dest);
+    }
+
+    @Override
+    public void extract(Object[] source, long[] dest) {
+        batch.get().extract(source, dest);
+    }
+
+    @Override
+    public void extract(Object[] source, double[] dest) {
+        batch.get().extract(source, dest);
+    }
+
+    @Override
+    public void extract(Object[] source, Object[] dest) {
+        batch.get().extract(source, dest);
+    }
+
     @Override
     public Function<C, F> getGetter() {
         return this;
@@ -63,4 +85,24 @@ final class InvokeFieldInstanceImpl<C, F> extends InvokeFieldImpl9 implements In
     public BiConsumer<C, F> getSetter() {
         return this;
     }
+
+    @Override
+    public void scatter(int[] source, Object[] dest) {
+        batch.get().scatter(source, dest);
+    }
+
+    @Override
+    public void scatter(long[] source, Object[] dest) {
+        batch.get().scatter(source, dest);
+    }
+
+    @Override
+    public void scatter(double[] source, Object[] dest) {
+        batch.get().scatter(source, dest);
+    }
+
+    @Override
+    public void scatter(Object[] source, Object[] dest) {
+        batch.get().scatter(source, dest);
+    }
 }
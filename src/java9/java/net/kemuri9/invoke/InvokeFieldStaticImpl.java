@@ -15,6 +15,8 @@
  */
 package net.kemuri9.invoke;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.invoke.VarHandle;
 import java.lang.reflect.Member;
 import java.util.function.Consumer;
@@ -22,8 +24,30 @@ import java.util.function.Supplier;
 
 final class InvokeFieldStaticImpl<F> extends InvokeFieldImpl9 implements InvokeFieldStatic<F> {
 
+    /**
+     * Create the stable variation of a static field
+     * @param <F> Type of field
+     * @param field {@link InvokeFieldStatic} to create the stable variation of
+     * @return stable variation of {@code field}
+     */
+    static <F> InvokeFieldStatic<F> stable(InvokeFieldStatic<F> field) {
+        return new InvokeFieldStaticImpl<>(field, field.getVarHandle(),
+                StableStatics.getStableGetter(field, field.getGetterHandle()));
+    }
+
+    /** stable getter, of type ()F, when this is a stable variation */
+    private final MethodHandle stable;
+    /** {@link #stable} erased to ()Object for use with invokeExact */
+    private final MethodHandle stableGeneric;
+
     InvokeFieldStaticImpl(Member member, VarHandle handle) {
+        this(member, handle, null);
+    }
+
+    private InvokeFieldStaticImpl(Member member, VarHandle handle, MethodHandle stable) {
         super(member, handle);
+        this.stable = stable;
+        this.stableGeneric = (stable == null) ? null : stable.asType(MethodType.methodType(Object.class));
     }
 
     @Override
@@ -31,8 +55,9 @@ final class InvokeFieldStaticImpl<F> extends InvokeFieldImpl9 implements InvokeF
         try {
             handle.set(u);
         } catch (Throwable ex) {
-            throw Utils.asException(ex, IllegalArgumentException.class, u + " is an invalid values");
+            throw Utils.asException(ex, IllegalArgumentException.class, ()-> u + " is an invalid values");
         }
+        StableStatics.written(member);
     }
 
     @Override
@@ -40,6 +65,15 @@ final class InvokeFieldStaticImpl<F> extends InvokeFieldImpl9 implements InvokeF
         throw new IllegalStateException(this + " is a static field");
     }
 
+    @Override
+    public InvokeFieldStatic<F> asStable() {
+        if (stable != null) {
+            return this;
+        }
+        return new InvokeFieldStaticImpl<>(member, handle,
+                StableStatics.getStableGetter(member, super.getGetterHandle()));
+    }
+
     @Override
     public <A> InvokeFieldStatic<A> asStatic() {
         return Utils.cast(this);
@@ -48,7 +82,7 @@ final class InvokeFieldStaticImpl<F> extends InvokeFieldImpl9 implements InvokeF
     @Override
     public F get() {
         try {
-            return Utils.cast(handle.get());
+            return Utils.cast((stableGeneric == null) ? handle.get() : (Object) stableGeneric.invokeExact());
         } catch (Throwable ex) {
             throw Utils.asException(ex, UnsupportedOperationException.class, "failed to retrieve value");
         }
@@ -59,6 +93,11 @@ final class InvokeFieldStaticImpl<F> extends InvokeFieldImpl9 implements InvokeF
         return this;
     }
 
+    @Override
+    public MethodHandle getGetterHandle() {
+        return (stable == null) ? super.getGetterHandle() : stable;
+    }
+
     @Override
     public Consumer<F> getSetter() {
         return this;
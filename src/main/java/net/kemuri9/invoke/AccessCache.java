@@ -0,0 +1,64 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of values computed for a {@link Class} as seen by the access level of a {@link MethodHandles.Lookup}.
+ *
+ * Lookups with the same {@link LookupDescriptor} resolve the same members, so they share entries.
+ * Entries do not retain the lookup classes, and those of unloaded lookup classes are discarded as values are cached.
+ *
+ * @param <V> Type of value cached
+ */
+final class AccessCache<V> {
+
+    private final ClassValue<ConcurrentMap<LookupDescriptor, V>> values =
+            new ClassValue<ConcurrentMap<LookupDescriptor, V>>() {
+        @Override
+        protected ConcurrentMap<LookupDescriptor, V> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>(4);
+        }
+    };
+
+    /**
+     * Retrieve the cached value
+     * @param lookup {@link MethodHandles.Lookup} the value was computed with
+     * @param type {@link Class} the value was computed for
+     * @return cached value. {@code null} if there is none
+     */
+    V get(MethodHandles.Lookup lookup, Class<?> type) {
+        return values.get(type).get(LookupDescriptor.of(lookup));
+    }
+
+    /**
+     * Cache a value, if one is not already cached
+     * @param lookup {@link MethodHandles.Lookup} the value was computed with
+     * @param type {@link Class} the value was computed for
+     * @param value value to cache
+     * @return the value now cached, which is a previously cached value when one was present
+     */
+    V put(MethodHandles.Lookup lookup, Class<?> type, V value) {
+        ConcurrentMap<LookupDescriptor, V> typeValues = values.get(type);
+        // entries of unloaded lookup classes can no longer be retrieved
+        typeValues.keySet().removeIf(LookupDescriptor::isUnloaded);
+        V existing = typeValues.putIfAbsent(LookupDescriptor.of(lookup), value);
+        return (existing == null) ? value : existing;
+    }
+}
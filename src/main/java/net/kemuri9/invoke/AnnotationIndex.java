@@ -0,0 +1,144 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the annotated members of a type and its parents, by {@link Annotation} type
+ */
+final class AnnotationIndex {
+
+    private static final class Annotated<A extends Annotation, M extends Member> implements InvokeAnnotated<A, M> {
+
+        private final A annotation;
+        private final M member;
+
+        Annotated(A annotation, M member) {
+            this.annotation = annotation;
+            this.member = member;
+        }
+
+        @Override
+        public A getAnnotation() {
+            return annotation;
+        }
+
+        @Override
+        public M getMember() {
+            return member;
+        }
+
+        @Override
+        public String toString() {
+            return annotation + " " + member;
+        }
+    }
+
+    private static interface Resolver<E extends AccessibleObject, M extends Member> {
+        M resolve(Lookup lookup, E element) throws IllegalAccessException;
+    }
+
+    private static final AccessCache<AnnotationIndex> INDEXES = new AccessCache<>();
+
+    static AnnotationIndex getIndex(Lookup lookup, Class<?> type) {
+        AnnotationIndex index = INDEXES.get(lookup, type);
+        if (index == null) {
+            index = INDEXES.put(lookup, type, newIndex(lookup, type));
+        }
+        return index;
+    }
+
+    private static <E extends AccessibleObject, M extends Member> void index(Lookup lookup, E[] elements,
+            Resolver<E, M> resolver, Map<Class<? extends Annotation>, List<InvokeAnnotated<?, M>>> index) {
+        for (E element : elements) {
+            Annotation[] annotations = element.getDeclaredAnnotations();
+            if (annotations.length == 0) {
+                continue;
+            }
+            M member;
+            try {
+                member = resolver.resolve(lookup, element);
+            } catch (IllegalAccessException ex) {
+                // no access, so skip it
+                continue;
+            }
+            for (Annotation annotation : annotations) {
+                index.computeIfAbsent(annotation.annotationType(), (t)-> new ArrayList<>(4))
+                    .add(new Annotated<>(annotation, member));
+            }
+        }
+    }
+
+    private static AnnotationIndex newIndex(Lookup lookup, Class<?> type) {
+        // reflection is required for annotations, so when a SM blocks it, retry with it disabled
+        try {
+            return new AnnotationIndex(lookup, type);
+        } catch (SecurityException ex) {
+            return SecurityManagerDisabler.getInstance().withSecurityDisabled(()-> new AnnotationIndex(lookup, type));
+        }
+    }
+
+    private static <M extends Member> Map<Class<? extends Annotation>, List<InvokeAnnotated<?, M>>> seal(
+            Map<Class<? extends Annotation>, List<InvokeAnnotated<?, M>>> index) {
+        index.replaceAll((t, members)-> Collections.unmodifiableList(members));
+        return index;
+    }
+
+    private final Map<Class<? extends Annotation>, List<InvokeAnnotated<?, InvokeExecutable<?>>>> constructors;
+    private final Map<Class<? extends Annotation>, List<InvokeAnnotated<?, InvokeField>>> fields;
+    private final Map<Class<? extends Annotation>, List<InvokeAnnotated<?, InvokeExecutable<?>>>> methods;
+
+    private AnnotationIndex(Lookup lookup, Class<?> type) {
+        Map<Class<? extends Annotation>, List<InvokeAnnotated<?, InvokeExecutable<?>>>> constructors = new HashMap<>();
+        Map<Class<? extends Annotation>, List<InvokeAnnotated<?, InvokeField>>> fields = new HashMap<>();
+        Map<Class<? extends Annotation>, List<InvokeAnnotated<?, InvokeExecutable<?>>>> methods = new HashMap<>();
+        // constructors are not inherited
+        index(lookup, type.getDeclaredConstructors(),
+                (Resolver<Constructor<?>, InvokeExecutable<?>>) InvokeUtils::getConstructor, constructors);
+        Utils.processClassHierarchy(type, true, (t)-> {
+            index(lookup, t.getDeclaredFields(), InvokeUtils::getField, fields);
+            index(lookup, t.getDeclaredMethods(), (Resolver<Method, InvokeExecutable<?>>) InvokeUtils::getMethod,
+                    methods);
+        });
+        this.constructors = seal(constructors);
+        this.fields = seal(fields);
+        this.methods = seal(methods);
+    }
+
+    <A extends Annotation> List<InvokeAnnotated<A, InvokeExecutable<?>>> getConstructors(Class<A> annotationType) {
+        return Utils.cast(constructors.getOrDefault(annotationType, Collections.emptyList()));
+    }
+
+    <A extends Annotation> List<InvokeAnnotated<A, InvokeField>> getFields(Class<A> annotationType) {
+        return Utils.cast(fields.getOrDefault(annotationType, Collections.emptyList()));
+    }
+
+    <A extends Annotation> List<InvokeAnnotated<A, InvokeExecutable<?>>> getMethods(Class<A> annotationType) {
+        return Utils.cast(methods.getOrDefault(annotationType, Collections.emptyList()));
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Loops applying a handle to each element of an array.
+ * Loop combinators require Java 9, so the loops are methods invoking the exact typed handle.
+ */
+final class ArrayLoops {
+
+    /**
+     * Create the loop storing the result of a handle on each element, as {@code dest[i] = handle(source[i])}
+     * @param handle {@link MethodHandle} of type {@code (Object)E}
+     * @param arrayType array type with component type {@code E}
+     * @return {@link MethodHandle} of type {@code (Object[],E[])void}
+     */
+    static MethodHandle map(MethodHandle handle, Class<?> arrayType) {
+        return loop("map", handle, Object[].class, arrayType);
+    }
+
+    /**
+     * Create the loop applying a handle on each element with the value of the same index,
+     * as {@code handle(dest[i], source[i])}
+     * @param handle {@link MethodHandle} of type {@code (Object,E)void}
+     * @param arrayType array type with component type {@code E}
+     * @return {@link MethodHandle} of type {@code (E[],Object[])void}
+     */
+    static MethodHandle scatter(MethodHandle handle, Class<?> arrayType) {
+        return loop("scatter", handle, arrayType, Object[].class);
+    }
+
+    private static MethodHandle loop(String name, MethodHandle element, Class<?> sourceType, Class<?> destType) {
+        try {
+            MethodHandle loop = MethodHandles.lookup().findStatic(ArrayLoops.class, name,
+                    MethodType.methodType(void.class, MethodHandle.class, sourceType, destType));
+            return MethodHandles.insertArguments(loop, 0, element);
+        } catch (ReflectiveOperationException ex) {
+            throw Utils.asException(ex, UnsupportedOperationException.class, "unable to create " + name + " loop");
+        }
+    }
+
+    private static void map(MethodHandle handle, Object[] source, int[] dest) throws Throwable {
+        for (int idx = 0; idx < source.length; ++idx) {
+            dest[idx] = (int) handle.invokeExact(source[idx]);
+        }
+    }
+
+    private static void map(MethodHandle handle, Object[] source, long[] dest) throws Throwable {
+        for (int idx = 0; idx < source.length; ++idx) {
+            dest[idx] = (long) handle.invokeExact(source[idx]);
+        }
+    }
+
+    private static void map(MethodHandle handle, Object[] source, double[] dest) throws Throwable {
+        for (int idx = 0; idx < source.length; ++idx) {
+            dest[idx] = (double) handle.invokeExact(source[idx]);
+        }
+    }
+
+    private static void map(MethodHandle handle, Object[] source, Object[] dest) throws Throwable {
+        for (int idx = 0; idx < source.length; ++idx) {
+            dest[idx] = (Object) handle.invokeExact(source[idx]);
+        }
+    }
+
+    private static void scatter(MethodHandle handle, int[] source, Object[] dest) throws Throwable {
+        for (int idx = 0; idx < source.length; ++idx) {
+            handle.invokeExact(dest[idx], source[idx]);
+        }
+    }
+
+    private static void scatter(MethodHandle handle, long[] source, Object[] dest) throws Throwable {
+        for (int idx = 0; idx < source.length; ++idx) {
+            handle.invokeExact(dest[idx], source[idx]);
+        }
+    }
+
+    private static void scatter(MethodHandle handle, double[] source, Object[] dest) throws Throwable {
+        for (int idx = 0; idx < source.length; ++idx) {
+            handle.invokeExact(dest[idx], source[idx]);
+        }
+    }
+
+    private static void scatter(MethodHandle handle, Object[] source, Object[] dest) throws Throwable {
+        for (int idx = 0; idx < source.length; ++idx) {
+            handle.invokeExact(dest[idx], source[idx]);
+        }
+    }
+
+    private ArrayLoops() {}
+}
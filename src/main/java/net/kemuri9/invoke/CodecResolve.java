@@ -0,0 +1,267 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+final class CodecResolve {
+
+    private static final AccessCache<InvokeCodec<?>> CODECS = new AccessCache<>();
+
+    /** handles of the primitive and String encoders, of type {@code (ByteBuffer,T)void} */
+    private static final ClassValue<MethodHandle> ENCODERS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return newValueEncoder(type);
+        }
+    };
+
+    /** handles of the primitive and String decoders, of type {@code (ByteBuffer)T} */
+    private static final ClassValue<MethodHandle> DECODERS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return newValueDecoder(type);
+        }
+    };
+
+    private static final MethodHandle IS_NULL;
+    private static final MethodHandle GET_BOOLEAN;
+    private static final MethodHandle PUT_BOOLEAN;
+    private static final MethodHandle ORDINAL;
+
+    static {
+        try {
+            Lookup lookup = MethodHandles.lookup();
+            IS_NULL = lookup.findStatic(Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+            GET_BOOLEAN = lookup.findStatic(CodecResolve.class, "getBoolean",
+                    MethodType.methodType(boolean.class, ByteBuffer.class));
+            PUT_BOOLEAN = lookup.findStatic(CodecResolve.class, "putBoolean",
+                    MethodType.methodType(void.class, ByteBuffer.class, boolean.class));
+            ORDINAL = lookup.findVirtual(Enum.class, "ordinal", MethodType.methodType(int.class));
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private static boolean getBoolean(ByteBuffer buffer) {
+        return buffer.get() != 0;
+    }
+
+    private static void putBoolean(ByteBuffer buffer, boolean value) {
+        buffer.put(value ? (byte) 1 : (byte) 0);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    static <C> InvokeCodec<C> getCodec(Lookup lookup, Class<C> type) {
+        InvokeCodec<?> codec = CODECS.get(lookup, type);
+        if (codec == null) {
+            codec = CODECS.put(lookup, type, newCodec(lookup, type));
+        }
+        return Utils.cast(codec);
+    }
+
+    private static <C> InvokeCodec<C> newCodec(Lookup lookup, Class<C> type) {
+        List<String> names = new ArrayList<>();
+        List<MethodHandle> encoders = new ArrayList<>();
+        List<MethodHandle> decoders = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        // fields are listed with the most derived types first, so hidden fields are not encoded
+        for (InvokeField field : InvokeUtils.getFields(lookup, type, true)) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+                    || !seen.add(field.getName())) {
+                continue;
+            }
+            Class<?> fieldType = field.getType().returnType();
+            MethodHandle encoder = getEncoder(fieldType);
+            MethodHandle decoder = getDecoder(fieldType);
+            if (encoder == null || decoder == null) {
+                throw new IllegalArgumentException(field + " of " + fieldType + " is not supported for encoding");
+            }
+            names.add(field.getName());
+            // (ByteBuffer,T)void filtered by the getter (C)T is (ByteBuffer,C)void
+            encoders.add(MethodHandles.filterArguments(encoder, 1, field.getGetterHandle())
+                    .asType(InvokeCodecImpl.ENCODER));
+
+            // the setter of a final field is only functional with full access
+            MethodHandle setter = Modifier.isFinal(modifiers) ? MapperResolve.getFinalSetter(field)
+                    : field.getSetterHandle();
+            if (setter == null) {
+                // read past the value, as it is not writable
+                decoders.add(MethodHandles.dropArguments(decoder.asType(MethodType.methodType(void.class,
+                        ByteBuffer.class)), 0, Object.class));
+            } else {
+                // (C,T)void filtered by the decoder (ByteBuffer)T is (C,ByteBuffer)void
+                decoders.add(MethodHandles.filterArguments(setter, 1, decoder).asType(InvokeCodecImpl.DECODER));
+            }
+        }
+        return new InvokeCodecImpl<>(type, names.toArray(new String[0]),
+                encoders.toArray(new MethodHandle[0]), decoders.toArray(new MethodHandle[0]));
+    }
+
+    /**
+     * Retrieve the encoder for a field type
+     * @param type type of the field
+     * @return {@link MethodHandle} of type {@code (ByteBuffer,T)void}. {@code null} if the type is not supported
+     */
+    private static MethodHandle getEncoder(Class<?> type) {
+        if (type.isEnum()) {
+            MethodHandle ordinal = ORDINAL.asType(MethodType.methodType(int.class, type));
+            return nullableEncoder(MethodHandles.filterArguments(ENCODERS.get(int.class), 1, ordinal));
+        }
+        MethodHandle encoder = ENCODERS.get(type);
+        if (encoder != null || type.isPrimitive()) {
+            return encoder;
+        }
+        Class<?> primitive = MethodType.methodType(type).unwrap().returnType();
+        return (primitive == type) ? null : nullableEncoder(ENCODERS.get(primitive)
+                .asType(MethodType.methodType(void.class, ByteBuffer.class, type)));
+    }
+
+    /**
+     * Retrieve the decoder for a field type
+     * @param type type of the field
+     * @return {@link MethodHandle} of type {@code (ByteBuffer)T}. {@code null} if the type is not supported
+     */
+    private static MethodHandle getDecoder(Class<?> type) {
+        if (type.isEnum()) {
+            Object[] values = type.getEnumConstants();
+            MethodHandle element = MethodHandles.arrayElementGetter(values.getClass()).bindTo(values);
+            return nullableDecoder(MethodHandles.filterReturnValue(DECODERS.get(int.class), element)
+                    .asType(MethodType.methodType(type, ByteBuffer.class)));
+        }
+        MethodHandle decoder = DECODERS.get(type);
+        if (decoder != null || type.isPrimitive()) {
+            return decoder;
+        }
+        Class<?> primitive = MethodType.methodType(type).unwrap().returnType();
+        return (primitive == type) ? null : nullableDecoder(DECODERS.get(primitive)
+                .asType(MethodType.methodType(type, ByteBuffer.class)));
+    }
+
+    /**
+     * Make a reference decoder read the presence marker ahead of the value, resulting in {@code null} when absent
+     * @param decoder {@link MethodHandle} of type {@code (ByteBuffer)T} decoding a non-null value
+     * @return {@link MethodHandle} of type {@code (ByteBuffer)T} decoding a nullable value
+     */
+    private static MethodHandle nullableDecoder(MethodHandle decoder) {
+        MethodHandle absent = MethodHandles.dropArguments(
+                MethodHandles.constant(decoder.type().returnType(), null), 0, ByteBuffer.class);
+        return MethodHandles.guardWithTest(GET_BOOLEAN, decoder, absent);
+    }
+
+    /**
+     * Make a reference encoder write a presence marker ahead of the value, and only the marker for {@code null}
+     * @param encoder {@link MethodHandle} of type {@code (ByteBuffer,T)void} encoding a non-null value
+     * @return {@link MethodHandle} of type {@code (ByteBuffer,T)void} encoding a nullable value
+     */
+    private static MethodHandle nullableEncoder(MethodHandle encoder) {
+        Class<?> type = encoder.type().parameterType(1);
+        MethodHandle isNull = MethodHandles.dropArguments(
+                IS_NULL.asType(MethodType.methodType(boolean.class, type)), 0, ByteBuffer.class);
+        MethodHandle absent = MethodHandles.dropArguments(
+                MethodHandles.insertArguments(PUT_BOOLEAN, 1, false), 1, type);
+        MethodHandle present = MethodHandles.foldArguments(encoder,
+                MethodHandles.insertArguments(PUT_BOOLEAN, 1, true));
+        return MethodHandles.guardWithTest(isNull, absent, present);
+    }
+
+    /**
+     * Retrieve the handle encoding a primitive or {@link String} value
+     * @param type type of the value
+     * @return {@link MethodHandle} of type {@code (ByteBuffer,T)void}. {@code null} if the type is not supported
+     */
+    private static MethodHandle newValueEncoder(Class<?> type) {
+        try {
+            Lookup lookup = MethodHandles.lookup();
+            MethodHandle put;
+            if (type == boolean.class) {
+                return PUT_BOOLEAN;
+            } else if (type == String.class) {
+                return nullableEncoder(lookup.findStatic(CodecResolve.class, "putString",
+                        MethodType.methodType(void.class, ByteBuffer.class, String.class)));
+            } else if (type == byte.class) {
+                put = lookup.findVirtual(ByteBuffer.class, "put", MethodType.methodType(ByteBuffer.class, byte.class));
+            } else if (type.isPrimitive() && type != void.class) {
+                String name = MethodType.methodType(type).wrap().returnType().getSimpleName();
+                if (type == int.class) {
+                    name = "Int";
+                } else if (type == char.class) {
+                    name = "Char";
+                }
+                put = lookup.findVirtual(ByteBuffer.class, "put" + name, MethodType.methodType(ByteBuffer.class, type));
+            } else {
+                return null;
+            }
+            return put.asType(MethodType.methodType(void.class, ByteBuffer.class, type));
+        } catch (ReflectiveOperationException ex) {
+            throw Utils.asException(ex, UnsupportedOperationException.class, "unable to encode " + type);
+        }
+    }
+
+    /**
+     * Retrieve the handle decoding a primitive or {@link String} value
+     * @param type type of the value
+     * @return {@link MethodHandle} of type {@code (ByteBuffer)T}. {@code null} if the type is not supported
+     */
+    private static MethodHandle newValueDecoder(Class<?> type) {
+        try {
+            Lookup lookup = MethodHandles.lookup();
+            if (type == boolean.class) {
+                return GET_BOOLEAN;
+            } else if (type == String.class) {
+                return nullableDecoder(lookup.findStatic(CodecResolve.class, "getString",
+                        MethodType.methodType(String.class, ByteBuffer.class)));
+            } else if (type == byte.class) {
+                return lookup.findVirtual(ByteBuffer.class, "get", MethodType.methodType(byte.class));
+            } else if (type.isPrimitive() && type != void.class) {
+                String name = MethodType.methodType(type).wrap().returnType().getSimpleName();
+                if (type == int.class) {
+                    name = "Int";
+                } else if (type == char.class) {
+                    name = "Char";
+                }
+                return lookup.findVirtual(ByteBuffer.class, "get" + name, MethodType.methodType(type));
+            }
+            return null;
+        } catch (ReflectiveOperationException ex) {
+            throw Utils.asException(ex, UnsupportedOperationException.class, "unable to decode " + type);
+        }
+    }
+
+    private CodecResolve() {}
+}
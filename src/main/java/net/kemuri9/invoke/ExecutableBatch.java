@@ -0,0 +1,116 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+/**
+ * Executions of an {@link InvokeExecutable} over arrays of arguments,
+ * with the loop handles resolved on first use
+ */
+final class ExecutableBatch {
+
+    private static final MethodType GENERIC = MethodType.genericMethodType(1);
+
+    /**
+     * Execute an executable with each argument row, through {@link InvokeExecutable#apply(Object[])}
+     * @param executable {@link InvokeExecutable} to execute
+     * @param rows argument rows
+     * @param results array to place the result of each row in
+     */
+    static void applyRows(InvokeExecutable<?> executable, Object[][] rows, Object[] results) {
+        checkArrays(rows, results);
+        for (int idx = 0; idx < rows.length; ++idx) {
+            results[idx] = executable.apply(rows[idx]);
+        }
+    }
+
+    /**
+     * Execute a single argument executable with each argument, through {@link InvokeExecutable#apply(Object[])}
+     * @param executable {@link InvokeExecutable} to execute
+     * @param receivers arguments
+     * @param results array to place the result of each argument in
+     */
+    static void applyEach(InvokeExecutable<?> executable, Object[] receivers, Object[] results) {
+        checkArrays(receivers, results);
+        checkSingle(executable.getType());
+        Object[] arguments = new Object[1];
+        for (int idx = 0; idx < receivers.length; ++idx) {
+            arguments[0] = receivers[idx];
+            results[idx] = executable.apply(arguments);
+        }
+    }
+
+    private static void checkArrays(Object[] source, Object[] results) {
+        Utils.notNull(source, "source");
+        Utils.notNull(results, "results");
+        if (results.length < source.length) {
+            throw new IllegalArgumentException("results of length " + results.length + " can not hold "
+                    + source.length + " results");
+        }
+    }
+
+    private static void checkSingle(MethodType type) {
+        if (type.parameterCount() != 1) {
+            throw new IllegalStateException(type + " does not execute with a single argument");
+        }
+    }
+
+    private final InvokeExecutable<?> executable;
+    private final Lazy<MethodHandle> single;
+    private final Lazy<MethodHandle> spread;
+
+    ExecutableBatch(InvokeExecutable<?> executable) {
+        this.executable = executable;
+        this.single = new Lazy<>(()-> {
+            MethodHandle handle = executable.getHandle();
+            checkSingle(handle.type());
+            return ArrayLoops.map(handle.asType(GENERIC), Object[].class);
+        });
+        this.spread = new Lazy<>(()-> {
+            MethodHandle handle = executable.getHandle();
+            // each row is an element of the source, spread to the arguments
+            handle = handle.asType(handle.type().generic())
+                    .asSpreader(Object[].class, handle.type().parameterCount()).asType(GENERIC);
+            return ArrayLoops.map(handle, Object[].class);
+        });
+    }
+
+    private RuntimeException failed(Throwable t) {
+        return Utils.asException(t, RuntimeException.class, ()-> "failed to execute " + executable);
+    }
+
+    void invoke(Object[] receivers, Object[] results) {
+        checkArrays(receivers, results);
+        MethodHandle single = this.single.get();
+        try {
+            single.invokeExact(receivers, results);
+        } catch (Throwable t) {
+            throw failed(t);
+        }
+    }
+
+    void invokeRows(Object[][] rows, Object[] results) {
+        checkArrays(rows, results);
+        MethodHandle spread = this.spread.get();
+        try {
+            spread.invokeExact((Object[]) rows, results);
+        } catch (Throwable t) {
+            throw failed(t);
+        }
+    }
+}
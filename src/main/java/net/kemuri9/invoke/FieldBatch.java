@@ -0,0 +1,180 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+
+/**
+ * Transfers of an instance field's values between arrays of instances and arrays of values,
+ * with the loop handles for each array type resolved on first use
+ */
+final class FieldBatch {
+
+    private static final int INT = 0;
+    private static final int LONG = 1;
+    private static final int DOUBLE = 2;
+    private static final int OBJECT = 3;
+    private static final Class<?>[] ARRAY_TYPES = { int[].class, long[].class, double[].class, Object[].class };
+
+    private static void checkLength(int sourceLength, int destLength) {
+        if (destLength < sourceLength) {
+            throw new IllegalArgumentException("dest of length " + destLength + " can not hold " + sourceLength
+                    + " values");
+        }
+    }
+
+    private final InvokeField field;
+    /* loop handles by array type, created on first use */
+    private final MethodHandle[] extractors = new MethodHandle[ARRAY_TYPES.length];
+    private final MethodHandle[] scatterers = new MethodHandle[ARRAY_TYPES.length];
+
+    FieldBatch(InvokeField field) {
+        this.field = field;
+    }
+
+    private MethodHandle getExtractor(int kind, int sourceLength, int destLength) {
+        checkLength(sourceLength, destLength);
+        MethodHandle extractor = extractors[kind];
+        if (extractor == null) {
+            MethodType type = MethodType.methodType(ARRAY_TYPES[kind].getComponentType(), Object.class);
+            MethodHandle getter;
+            try {
+                getter = field.getGetterHandle().asType(type);
+            } catch (WrongMethodTypeException ex) {
+                throw new IllegalArgumentException(field + " can not be extracted to "
+                        + ARRAY_TYPES[kind].getSimpleName(), ex);
+            }
+            extractor = ArrayLoops.map(getter, ARRAY_TYPES[kind]);
+            extractors[kind] = extractor;
+        }
+        return extractor;
+    }
+
+    private MethodHandle getScatterer(int kind, int sourceLength, int destLength) {
+        checkLength(sourceLength, destLength);
+        MethodHandle scatterer = scatterers[kind];
+        if (scatterer == null) {
+            MethodHandle setter = field.getSetterHandle();
+            if (setter == null) {
+                throw new IllegalStateException("No setter available for " + field);
+            }
+            MethodType type = MethodType.methodType(void.class, Object.class, ARRAY_TYPES[kind].getComponentType());
+            try {
+                setter = setter.asType(type);
+            } catch (WrongMethodTypeException ex) {
+                throw new IllegalArgumentException(field + " can not be scattered from "
+                        + ARRAY_TYPES[kind].getSimpleName(), ex);
+            }
+            scatterer = ArrayLoops.scatter(setter, ARRAY_TYPES[kind]);
+            scatterers[kind] = scatterer;
+        }
+        return scatterer;
+    }
+
+    private RuntimeException failed(Throwable t) {
+        return Utils.asException(t, IllegalArgumentException.class, ()-> "failed to transfer values of " + field);
+    }
+
+    void extract(Object[] source, int[] dest) {
+        Utils.notNull(source, "source");
+        Utils.notNull(dest, "dest");
+        MethodHandle extractor = getExtractor(INT, source.length, dest.length);
+        try {
+            extractor.invokeExact(source, dest);
+        } catch (Throwable t) {
+            throw failed(t);
+        }
+    }
+
+    void extract(Object[] source, long[] dest) {
+        Utils.notNull(source, "source");
+        Utils.notNull(dest, "dest");
+        MethodHandle extractor = getExtractor(LONG, source.length, dest.length);
+        try {
+            extractor.invokeExact(source, dest);
+        } catch (Throwable t) {
+            throw failed(t);
+        }
+    }
+
+    void extract(Object[] source, double[] dest) {
+        Utils.notNull(source, "source");
+        Utils.notNull(dest, "dest");
+        MethodHandle extractor = getExtractor(DOUBLE, source.length, dest.length);
+        try {
+            extractor.invokeExact(source, dest);
+        } catch (Throwable t) {
+            throw failed(t);
+        }
+    }
+
+    void extract(Object[] source, Object[] dest) {
+        Utils.notNull(source, "source");
+        Utils.notNull(dest, "dest");
+        MethodHandle extractor = getExtractor(OBJECT, source.length, dest.length);
+        try {
+            extractor.invokeExact(source, dest);
+        } catch (Throwable t) {
+            throw failed(t);
+        }
+    }
+
+    void scatter(int[] source, Object[] dest) {
+        Utils.notNull(source, "source");
+        Utils.notNull(dest, "dest");
+        MethodHandle scatterer = getScatterer(INT, source.length, dest.length);
+        try {
+            scatterer.invokeExact(source, dest);
+        } catch (Throwable t) {
+            throw failed(t);
+        }
+    }
+
+    void scatter(long[] source, Object[] dest) {
+        Utils.notNull(source, "source");
+        Utils.notNull(dest, "dest");
+        MethodHandle scatterer = getScatterer(LONG, source.length, dest.length);
+        try {
+            scatterer.invokeExact(source, dest);
+        } catch (Throwable t) {
+            throw failed(t);
+        }
+    }
+
+    void scatter(double[] source, Object[] dest) {
+        Utils.notNull(source, "source");
+        Utils.notNull(dest, "dest");
+        MethodHandle scatterer = getScatterer(DOUBLE, source.length, dest.length);
+        try {
+            scatterer.invokeExact(source, dest);
+        } catch (Throwable t) {
+            throw failed(t);
+        }
+    }
+
+    void scatter(Object[] source, Object[] dest) {
+        Utils.notNull(source, "source");
+        Utils.notNull(dest, "dest");
+        MethodHandle scatterer = getScatterer(OBJECT, source.length, dest.length);
+        try {
+            scatterer.invokeExact(source, dest);
+        } catch (Throwable t) {
+            throw failed(t);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 final class FieldResolve {
 
@@ -36,24 +37,43 @@ final class FieldResolve {
         return newField(field, getter, setter);
     }
 
-    static List<InvokeField> getFields(Lookup lookup, List<RefGetSet> fieldMembers) {
-        List<InvokeField> ret = new ArrayList<>(fieldMembers.size());
+    /**
+     * Resolve a field through the lookup variation
+     * @param lookup {@link Lookup} to resolve with
+     * @param ref {@link RefGetSet} of the field
+     * @return {@link InvokeField} of the field, {@code null} when {@code lookup} does not have access to it
+     */
+    static InvokeField getField(Lookup lookup, RefGetSet ref) {
         LookupAccessVersion access = LookupAccess.getInstance();
-        for (RefGetSet ref : fieldMembers) {
-            MethodHandle getter, setter = null;
-            try {
-                getter = access.resolveField(lookup, ref.getter);
-            } catch (RuntimeException ex) {
-                // do not have access permissions, so skip it
-                continue;
-            }
+        MethodHandle getter;
+        try {
+            getter = access.resolveField(lookup, ref.getter);
+        } catch (RuntimeException ex) {
+            // do not have access permissions
+            return null;
+        }
 
+        // the setter is often not used, so resolve it on first use
+        Supplier<MethodHandle> setter = ()-> {
             try {
-                setter = access.resolveField(lookup, ref.setter);
+                return access.resolveField(lookup, ref.getSetter());
             } catch (RuntimeException ex) {
                 // read only field
+                return null;
+            }
+        };
+        return Modifier.isStatic(ref.getter.getModifiers())
+                ? new InvokeFieldStaticImpl<>(ref.getter, getter, setter)
+                : new InvokeFieldInstanceImpl<>(ref.getter, getter, setter);
+    }
+
+    static List<InvokeField> getFields(Lookup lookup, List<RefGetSet> fieldMembers) {
+        List<InvokeField> ret = new ArrayList<>(fieldMembers.size());
+        for (RefGetSet ref : fieldMembers) {
+            InvokeField field = getField(lookup, ref);
+            if (field != null) {
+                ret.add(field);
             }
-            ret.add(newField(ref.getter, getter, setter));
         }
         return ret;
     }
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandles;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.util.List;
+
+/**
+ * Retrieval of the full access {@link MethodHandles.Lookup} from the {@link GetFullAccess} providers.
+ * Both outcomes are retained, so a JVM where no provider succeeds does not repeat the attempts on every retrieval.
+ */
+final class FullAccessResolve {
+
+    private static final String FAILURE = "Unable to attain full access MethodHandles.Lookup";
+
+    private static volatile MethodHandles.Lookup LOOKUP = null;
+    /** state of the providers having been attempted without success */
+    private static volatile boolean FAILED = false;
+    private static volatile String REPORT = "no retrieval has been attempted";
+
+    static MethodHandles.Lookup getLookup() {
+        MethodHandles.Lookup lookup = LOOKUP;
+        if (lookup != null) {
+            return lookup;
+        }
+        if (FAILED) {
+            throw new UnsupportedOperationException(FAILURE);
+        }
+        return resolve();
+    }
+
+    static String getReport() {
+        return REPORT;
+    }
+
+    static void reset() {
+        synchronized (FullAccessResolve.class) {
+            LOOKUP = null;
+            FAILED = false;
+            REPORT = "no retrieval has been attempted";
+        }
+        LookupAccess.reset();
+        MemberNameAccess.reset();
+        SecurityManagerDisabler.reset();
+    }
+
+    private static synchronized MethodHandles.Lookup resolve() {
+        if (LOOKUP != null) {
+            return LOOKUP;
+        }
+        if (FAILED) {
+            throw new UnsupportedOperationException(FAILURE);
+        }
+        StringBuilder report = new StringBuilder(256);
+        MethodHandles.Lookup lookup = null;
+        List<GetFullAccess> providers;
+        try {
+            providers = VersionSupport.getLookups();
+        } catch (Throwable t) {
+            report.append("providers could not be loaded: ").append(t);
+            return failed(report);
+        }
+        for (GetFullAccess provider : providers) {
+            report.append(provider.getClass().getName()).append(" (priority ").append(provider.getPriority())
+                    .append("): ");
+            try {
+                MethodHandles.Lookup candidate = AccessController.doPrivileged(provider);
+                if (candidate == null) {
+                    report.append("no lookup provided\n");
+                } else if (!"/trusted".equals(candidate.toString())) {
+                    // the candidate is not retained yet, so its full access is identified by the special name
+                    report.append(candidate).append(" does not have full access\n");
+                } else {
+                    report.append("succeeded\n");
+                    lookup = candidate;
+                    break;
+                }
+            } catch (Throwable t) {
+                Throwable cause = (t instanceof PrivilegedActionException) ? t.getCause() : t;
+                report.append("failed with ").append(cause).append('\n');
+            }
+        }
+        if (lookup == null) {
+            return failed(report);
+        }
+        REPORT = report.toString();
+        LOOKUP = lookup;
+        return lookup;
+    }
+
+    private static MethodHandles.Lookup failed(StringBuilder report) {
+        REPORT = report.toString();
+        FAILED = true;
+        throw new UnsupportedOperationException(FAILURE);
+    }
+
+    private FullAccessResolve() {}
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+
+final class InstantiatorResolve {
+
+    private static final AccessCache<InvokeInstantiator<?>> INSTANTIATORS = new AccessCache<>();
+
+    /** {@code Unsafe.allocateInstance} bound to the Unsafe instance, as (Class)Object */
+    private static volatile MethodHandle ALLOCATE = null;
+
+    private static MethodHandle getAllocate() {
+        MethodHandle allocate = ALLOCATE;
+        if (allocate != null) {
+            return allocate;
+        }
+        // Unsafe is present in all supported versions, through jdk.unsupported on Java 9+
+        Lookup full = InvokeUtils.getFullAccessLookup();
+        try {
+            Class<?> unsafeType = Class.forName("sun.misc.Unsafe");
+            Object unsafe = full.findStaticGetter(unsafeType, "theUnsafe", unsafeType).invoke();
+            allocate = full.findVirtual(unsafeType, "allocateInstance",
+                    MethodType.methodType(Object.class, Class.class)).bindTo(unsafe);
+        } catch (Throwable t) {
+            throw Utils.asException(t, UnsupportedOperationException.class,
+                    "allocation without construction is not supported");
+        }
+        ALLOCATE = allocate;
+        return allocate;
+    }
+
+    static <T> InvokeInstantiator<T> getInstantiator(Lookup lookup, Class<T> type) {
+        InvokeInstantiator<?> instantiator = INSTANTIATORS.get(lookup, type);
+        if (instantiator == null) {
+            instantiator = INSTANTIATORS.put(lookup, type, newInstantiator(lookup, type));
+        }
+        return Utils.cast(instantiator);
+    }
+
+    private static <T> InvokeInstantiator<T> newInstantiator(Lookup lookup, Class<T> type) {
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || Modifier.isAbstract(type.getModifiers())) {
+            throw new IllegalArgumentException(type + " can not be instantiated");
+        }
+        // the constructor is preferred, as it keeps the invariants of the type
+        for (InvokeExecutable<T> ctor : InvokeUtils.getConstructors(lookup, type)) {
+            if (ctor.getType().parameterCount() == 0) {
+                return new InvokeInstantiatorImpl<>(type, ctor.getHandle(), true);
+            }
+        }
+        MethodHandle allocate = MethodHandles.insertArguments(getAllocate(), 0, type)
+                .asType(MethodType.methodType(type));
+        return new InvokeInstantiatorImpl<>(type, allocate, false);
+    }
+
+    private InstantiatorResolve() {}
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Member;
+
+/**
+ * Associates an {@link Annotation} with the member it is declared on
+ *
+ * @param <A> Type of {@link Annotation}
+ * @param <M> Type of member, an {@link InvokeField} or {@link InvokeExecutable}
+ * @since 1.2
+ */
+public interface InvokeAnnotated<A extends Annotation, M extends Member> {
+
+    /**
+     * Retrieve the {@link Annotation} declared on the member
+     * @return {@link Annotation} declared on the member
+     */
+    public A getAnnotation();
+
+    /**
+     * Retrieve the member the {@link Annotation} is declared on
+     * @return member the {@link Annotation} is declared on
+     */
+    public M getMember();
+}
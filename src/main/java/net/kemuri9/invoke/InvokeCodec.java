@@ -0,0 +1,65 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Encodes the instance fields of a type into a {@link ByteBuffer} and decodes them back
+ * through the Invocation engine.
+ * Primitive fields are written without boxing in the byte order of the buffer, and decoding writes the fields
+ * of an existing instance, so neither {@link java.io.Serializable} nor a constructor is involved.
+ * Supported field types are the primitives, their wrappers, {@link String}, and enums.
+ * Transient fields are not encoded.
+ *
+ * @param <C> Class type that is encoded
+ * @since 1.2
+ */
+public interface InvokeCodec<C> {
+
+    /**
+     * Retrieve the names of the encoded fields
+     * @return unmodifiable {@link List} of the names of the encoded fields, in the order they are encoded
+     */
+    public List<String> getNames();
+
+    /**
+     * Retrieve the type that is encoded
+     * @return type that is encoded
+     */
+    public Class<C> getType();
+
+    /**
+     * Decode the fields of an instance from the current position of a {@link ByteBuffer}.
+     * Fields that are not writable are read past and left unchanged.
+     * @param source {@link ByteBuffer} to decode from
+     * @param target instance to write the decoded fields to
+     * @return {@code target}
+     * @throws IllegalArgumentException When {@code source} or {@code target} is {@code null}
+     * @throws java.nio.BufferUnderflowException When {@code source} does not have the encoded fields remaining
+     */
+    public C read(ByteBuffer source, C target);
+
+    /**
+     * Encode the fields of an instance at the current position of a {@link ByteBuffer}
+     * @param source instance to encode the fields of
+     * @param target {@link ByteBuffer} to encode to
+     * @throws IllegalArgumentException When {@code source} or {@code target} is {@code null}
+     * @throws java.nio.BufferOverflowException When {@code target} does not have room for the encoded fields
+     */
+    public void write(C source, ByteBuffer target);
+}
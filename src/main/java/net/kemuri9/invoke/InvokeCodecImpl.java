@@ -0,0 +1,92 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Implementation of {@link InvokeCodec}
+ *
+ * @param <C> Class type that is encoded
+ */
+final class InvokeCodecImpl<C> implements InvokeCodec<C> {
+
+    /** type of the field encoders, taking the buffer and the instance */
+    static final MethodType ENCODER = MethodType.methodType(void.class, ByteBuffer.class, Object.class);
+    /** type of the field decoders, taking the instance and the buffer */
+    static final MethodType DECODER = MethodType.methodType(void.class, Object.class, ByteBuffer.class);
+
+    private final Class<C> type;
+    private final List<String> names;
+    private final MethodHandle[] encoders;
+    private final MethodHandle[] decoders;
+
+    InvokeCodecImpl(Class<C> type, String[] names, MethodHandle[] encoders, MethodHandle[] decoders) {
+        this.type = type;
+        this.names = Collections.unmodifiableList(Arrays.asList(names));
+        this.encoders = encoders;
+        this.decoders = decoders;
+    }
+
+    @Override
+    public List<String> getNames() {
+        return names;
+    }
+
+    @Override
+    public Class<C> getType() {
+        return type;
+    }
+
+    @Override
+    public C read(ByteBuffer source, C target) {
+        Utils.notNull(source, "source");
+        Utils.notNull(target, "target");
+        type.cast(target);
+        try {
+            for (MethodHandle decoder : decoders) {
+                decoder.invokeExact((Object) target, source);
+            }
+        } catch (Throwable t) {
+            throw Utils.asException(t, IllegalArgumentException.class, ()-> "failed to decode " + type.getName());
+        }
+        return target;
+    }
+
+    @Override
+    public void write(C source, ByteBuffer target) {
+        Utils.notNull(source, "source");
+        Utils.notNull(target, "target");
+        try {
+            for (MethodHandle encoder : encoders) {
+                encoder.invokeExact(target, (Object) source);
+            }
+        } catch (Throwable t) {
+            throw Utils.asException(t, IllegalArgumentException.class, ()-> "failed to encode " + source);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(64).append("InvokeCodec[type=").append(type.getName())
+                .append(", names=").append(names).append("]").toString();
+    }
+}
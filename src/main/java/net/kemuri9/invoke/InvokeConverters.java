@@ -0,0 +1,226 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Registry of conversions applied to arguments that do not match the parameter types of an {@link InvokeExecutable}.
+ * Conversions are compiled into the {@link MethodHandle} of the executable per profile of argument types,
+ * so that once compiled executing with the same argument types only incurs a check of the argument types.
+ * <p>
+ * Conversions are selected by the exact parameter type, with primitive parameter types using their wrapper type,
+ * and the most specific type in the hierarchy of the argument type. Conversions for {@code null} arguments
+ * are registered with a source type of {@link Void}.
+ * Arguments that are already applicable to the parameter type, including by unboxing and primitive widening,
+ * are never converted.
+ * <p>
+ * Registration is expected to be completed prior to use, as conversions already compiled are not recompiled.
+ *
+ * @since 1.2
+ */
+public final class InvokeConverters {
+
+    private static final MethodHandle APPLY;
+
+    static {
+        try {
+            APPLY = MethodHandles.lookup().findVirtual(Function.class, "apply",
+                    MethodType.methodType(Object.class, Object.class));
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    /** primitive types in order of widening, excluding {@code char} which widens from {@code int} onwards */
+    private static final List<Class<?>> WIDENING = Arrays.asList(byte.class, short.class, int.class, long.class,
+            float.class, double.class);
+
+    static Class<?> unwrap(Class<?> type) {
+        return MethodType.methodType(type).unwrap().returnType();
+    }
+
+    static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    static boolean isWidening(Class<?> from, Class<?> to) {
+        if (from == to) {
+            return true;
+        }
+        int toIdx = WIDENING.indexOf(to);
+        if (from == char.class) {
+            return toIdx >= WIDENING.indexOf(int.class);
+        }
+        int fromIdx = WIDENING.indexOf(from);
+        return fromIdx >= 0 && fromIdx < toIdx;
+    }
+
+    /**
+     * Check if an argument type is applicable to a parameter type without conversion
+     * @param argType type of argument, {@link Void} for {@code null}
+     * @param paramType type of the parameter
+     * @return state of the argument type being applicable without conversion
+     */
+    static boolean isApplicable(Class<?> argType, Class<?> paramType) {
+        if (!paramType.isPrimitive()) {
+            return argType == Void.class || paramType.isAssignableFrom(argType);
+        }
+        Class<?> primitive = unwrap(argType);
+        return primitive.isPrimitive() && isWidening(primitive, paramType);
+    }
+
+    /** source type to target type to conversion of type (source)target */
+    private final Map<Class<?>, Map<Class<?>, MethodHandle>> converters = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new registry with no conversions
+     * @see #registerDefaults()
+     */
+    public InvokeConverters() {}
+
+    /**
+     * Compile conversions into a {@link MethodHandle} for the specified profile of argument types
+     * @param handle {@link MethodHandle} to convert the arguments of
+     * @param argTypes types of arguments, {@link Void} representing {@code null}
+     * @return {@link MethodHandle} that converts applicable arguments,
+     *  with the parameter types of converted arguments being the source types of their conversions
+     */
+    MethodHandle compile(MethodHandle handle, Class<?>[] argTypes) {
+        MethodType type = handle.type();
+        for (int idx = 0; idx < argTypes.length; ++idx) {
+            Class<?> paramType = type.parameterType(idx);
+            if (isApplicable(argTypes[idx], paramType)) {
+                continue;
+            }
+            MethodHandle converter = getConverter(argTypes[idx], wrap(paramType));
+            if (converter == null) {
+                // leave the argument as is, producing the same failure as without conversion
+                continue;
+            }
+            converter = converter.asType(converter.type().changeReturnType(paramType));
+            handle = MethodHandles.filterArguments(handle, idx, converter);
+        }
+        return handle;
+    }
+
+    /**
+     * Retrieve an {@link InvokeExecutable} that converts its arguments with the conversions of this registry.
+     * The {@link InvokeExecutable#getHandle() handle} of the produced executable is that of {@code executable},
+     * only {@link InvokeExecutable#invoke(Object...) invoke} and {@link InvokeExecutable#apply(Object[]) apply}
+     * perform conversions.
+     * @param <R> Type of return
+     * @param executable {@link InvokeExecutable} to convert the arguments of
+     * @return {@link InvokeExecutable} that converts its arguments
+     * @throws IllegalArgumentException When {@code executable} is {@code null}
+     */
+    public <R> InvokeExecutable<R> converting(InvokeExecutable<R> executable) {
+        Utils.notNull(executable, "executable");
+        return new InvokeConvertingImpl<>(executable, this);
+    }
+
+    private MethodHandle getConverter(Class<?> argType, Class<?> paramType) {
+        MethodHandle[] found = new MethodHandle[1];
+        Utils.processClassHierarchy(argType, true, (type)-> {
+            if (found[0] == null) {
+                Map<Class<?>, MethodHandle> targets = converters.get(type);
+                found[0] = (targets == null) ? null : targets.get(paramType);
+            }
+        });
+        return found[0];
+    }
+
+    /**
+     * Register a conversion from {@code source} to {@code target}
+     * @param <S> Type of source
+     * @param <T> Type of target
+     * @param source type of argument converted from. {@link Void} registers the conversion of {@code null}
+     * @param target type of parameter converted to. Primitive types are registered as their wrapper type
+     * @param converter {@link Function} that performs the conversion
+     * @return this registry
+     * @throws IllegalArgumentException When any parameter is {@code null}
+     */
+    public <S, T> InvokeConverters register(Class<S> source, Class<T> target,
+            Function<? super S, ? extends T> converter) {
+        Utils.notNull(source, "source");
+        Utils.notNull(target, "target");
+        Utils.notNull(converter, "converter");
+        MethodHandle handle = APPLY.bindTo(converter).asType(MethodType.methodType(wrap(target), source));
+        return register(handle);
+    }
+
+    /**
+     * Register a conversion from the single parameter type of {@code converter} to its return type
+     * @param converter {@link MethodHandle} that performs the conversion
+     * @return this registry
+     * @throws IllegalArgumentException When {@code converter} is {@code null}
+     *  or does not have a single parameter and non-void return
+     */
+    public InvokeConverters register(MethodHandle converter) {
+        Utils.notNull(converter, "converter");
+        MethodType type = converter.type();
+        if (type.parameterCount() != 1 || type.returnType() == void.class) {
+            throw new IllegalArgumentException(converter + " is not a conversion");
+        }
+        converter = converter.asType(type.wrap());
+        converters.computeIfAbsent(converter.type().parameterType(0), (k)-> new ConcurrentHashMap<>())
+            .put(converter.type().returnType(), converter);
+        return this;
+    }
+
+    /**
+     * Register the default conversions, being:
+     * <ul>
+     * <li>{@link Number}s to all numeric types, with narrowing</li>
+     * <li>{@link String}s to {@link Boolean} and all numeric types, by parsing</li>
+     * <li>{@link Object}s to {@link String}</li>
+     * <li>{@code null} to the default value of primitive types</li>
+     * </ul>
+     * @return this registry
+     */
+    public InvokeConverters registerDefaults() {
+        register(Number.class, Byte.class, Number::byteValue);
+        register(Number.class, Short.class, Number::shortValue);
+        register(Number.class, Integer.class, Number::intValue);
+        register(Number.class, Long.class, Number::longValue);
+        register(Number.class, Float.class, Number::floatValue);
+        register(Number.class, Double.class, Number::doubleValue);
+        register(String.class, Boolean.class, Boolean::valueOf);
+        register(String.class, Byte.class, Byte::valueOf);
+        register(String.class, Short.class, Short::valueOf);
+        register(String.class, Integer.class, Integer::valueOf);
+        register(String.class, Long.class, Long::valueOf);
+        register(String.class, Float.class, Float::valueOf);
+        register(String.class, Double.class, Double::valueOf);
+        register(Object.class, String.class, String::valueOf);
+        register(Void.class, Boolean.class, (v)-> Boolean.FALSE);
+        register(Void.class, Character.class, (v)-> Character.valueOf((char) 0));
+        register(Void.class, Byte.class, (v)-> Byte.valueOf((byte) 0));
+        register(Void.class, Short.class, (v)-> Short.valueOf((short) 0));
+        register(Void.class, Integer.class, (v)-> Integer.valueOf(0));
+        register(Void.class, Long.class, (v)-> Long.valueOf(0));
+        register(Void.class, Float.class, (v)-> Float.valueOf(0));
+        register(Void.class, Double.class, (v)-> Double.valueOf(0));
+        return this;
+    }
+}
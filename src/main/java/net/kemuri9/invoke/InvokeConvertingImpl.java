@@ -0,0 +1,133 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Executable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link InvokeExecutable} that converts its arguments through {@link InvokeConverters}.
+ * Conversions are selected by the runtime types of each execution, so batches are not a single loop.
+ *
+ * @param <R> Type of return
+ */
+final class InvokeConvertingImpl<R> extends MemberWrapper implements InvokeExecutable<R> {
+
+    /** compiled conversion for a profile of argument types */
+    private static final class Compiled {
+
+        private final Class<?>[] argTypes;
+        /** handle of type (Object[])Object */
+        private final MethodHandle handle;
+
+        Compiled(Class<?>[] argTypes, MethodHandle handle) {
+            this.argTypes = argTypes;
+            this.handle = handle;
+        }
+
+        boolean matches(Object[] args) {
+            if (args.length != argTypes.length) {
+                return false;
+            }
+            for (int idx = 0; idx < args.length; ++idx) {
+                if (typeOf(args[idx]) != argTypes[idx]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static Class<?> typeOf(Object arg) {
+        return (arg == null) ? Void.class : arg.getClass();
+    }
+
+    private final InvokeExecutable<R> source;
+    private final InvokeConverters converters;
+    private final ConcurrentMap<List<Class<?>>, Compiled> compiled = new ConcurrentHashMap<>();
+    /** most recently used compilation, checked before the full cache */
+    private volatile Compiled last;
+
+    InvokeConvertingImpl(InvokeExecutable<R> source, InvokeConverters converters) {
+        super(source);
+        this.source = source;
+        this.converters = converters;
+    }
+
+    @Override
+    public R apply(Object[] arguments) {
+        MethodHandle handle = source.getHandle();
+        if (arguments == null || arguments.length != handle.type().parameterCount() || handle.isVarargsCollector()) {
+            // not a direct match for the arity, so leave it to the source to handle or report
+            return source.apply(arguments);
+        }
+        Compiled compiled = last;
+        if (compiled == null || !compiled.matches(arguments)) {
+            compiled = getCompiled(arguments);
+            last = compiled;
+        }
+        try {
+            Object ret = (Object) compiled.handle.invokeExact(arguments);
+            return Utils.cast(ret);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class,
+                    ()-> "failed to execute " + this + " with arguments " + Arrays.toString(arguments));
+        }
+    }
+
+    private Compiled getCompiled(Object[] arguments) {
+        Class<?>[] argTypes = new Class<?>[arguments.length];
+        for (int idx = 0; idx < arguments.length; ++idx) {
+            argTypes[idx] = typeOf(arguments[idx]);
+        }
+        return compiled.computeIfAbsent(Arrays.asList(argTypes), (k)-> {
+            MethodHandle handle = converters.compile(source.getHandle(), argTypes);
+            handle = handle.asType(MethodType.genericMethodType(argTypes.length))
+                    .asSpreader(Object[].class, argTypes.length);
+            return new Compiled(argTypes, handle);
+        });
+    }
+
+    @Override
+    public Executable getExecutable(Lookup lookup) throws IllegalAccessException {
+        return source.getExecutable(lookup);
+    }
+
+    @Override
+    public MethodHandle getHandle() {
+        return source.getHandle();
+    }
+
+    InvokeExecutable<R> getSource() {
+        return source;
+    }
+
+    @Override
+    public MethodType getType() {
+        return source.getType();
+    }
+
+    @Override
+    public R invoke(Object... args) {
+        return apply(args);
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+/**
+ * Dynamic access to the members of objects by name, in the manner of dynamic languages.
+ * Resolution is by the runtime class of the object, with the results cached per member name in an inline cache
+ * of the most recent receiver classes that degrades into a shared cache when more receiver classes are encountered.
+ *
+ * @since 1.2
+ */
+public interface InvokeDynamic {
+
+    /**
+     * Call the instance method with the specified name on an object,
+     * selecting the most specific overload applicable to the arguments
+     * @param <R> Type of return
+     * @param target object to call the method on
+     * @param name name of the method
+     * @param args arguments to the method
+     * @return return value of the method
+     * @throws IllegalArgumentException When {@code target} or {@code name} is {@code null},
+     *  no accessible method exists, or no overload is applicable to the arguments
+     * @throws RuntimeException When the method throws an exception
+     * @see InvokeOverloads
+     */
+    public <R> R call(Object target, String name, Object... args);
+
+    /**
+     * Retrieve the value of the instance field with the specified name on an object
+     * @param <T> Type of field value
+     * @param target object to retrieve the field value of
+     * @param name name of the field
+     * @return value of the field
+     * @throws IllegalArgumentException When {@code target} or {@code name} is {@code null},
+     *  or no accessible instance field exists
+     */
+    public <T> T getField(Object target, String name);
+
+    /**
+     * Set the value of the instance field with the specified name on an object
+     * @param target object to set the field value of
+     * @param name name of the field
+     * @param value value to set
+     * @throws IllegalArgumentException When {@code target} or {@code name} is {@code null},
+     *  or no accessible instance field exists
+     * @throws ClassCastException When {@code value} is not valid for the field
+     * @throws IllegalStateException When the field cannot be set
+     */
+    public void setField(Object target, String name, Object value);
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link InvokeDynamic}
+ */
+final class InvokeDynamicImpl implements InvokeDynamic {
+
+    /** maximum number of receiver classes held inline for a member name before becoming megamorphic */
+    static final int INLINE_LIMIT = 4;
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** inline cache of resolutions for a member name by receiver class */
+    private static final class Site<V> {
+
+        private final Function<Class<?>, V> resolver;
+        /** receiver classes and their resolutions, alternating */
+        private volatile Object[] inline = new Object[0];
+        /** resolutions once more than {@link InvokeDynamicImpl#INLINE_LIMIT} receiver classes are encountered */
+        private volatile ConcurrentMap<Class<?>, V> megamorphic;
+
+        Site(Function<Class<?>, V> resolver) {
+            this.resolver = resolver;
+        }
+
+        V get(Class<?> type) {
+            Object[] inline = this.inline;
+            for (int idx = 0; idx < inline.length; idx += 2) {
+                if (inline[idx] == type) {
+                    return Utils.cast(inline[idx + 1]);
+                }
+            }
+            ConcurrentMap<Class<?>, V> megamorphic = this.megamorphic;
+            if (megamorphic != null) {
+                return megamorphic.computeIfAbsent(type, resolver);
+            }
+            return resolve(type);
+        }
+
+        private synchronized V resolve(Class<?> type) {
+            Object[] inline = this.inline;
+            for (int idx = 0; idx < inline.length; idx += 2) {
+                if (inline[idx] == type) {
+                    return Utils.cast(inline[idx + 1]);
+                }
+            }
+            if (megamorphic != null) {
+                return megamorphic.computeIfAbsent(type, resolver);
+            }
+            V value = resolver.apply(type);
+            if (inline.length < INLINE_LIMIT * 2) {
+                inline = Arrays.copyOf(inline, inline.length + 2);
+                inline[inline.length - 2] = type;
+                inline[inline.length - 1] = value;
+                this.inline = inline;
+            } else {
+                // the existing inline entries remain valid, so continue to check them first
+                ConcurrentMap<Class<?>, V> map = new ConcurrentHashMap<>();
+                map.put(type, value);
+                megamorphic = map;
+            }
+            return value;
+        }
+    }
+
+    private final MethodHandles.Lookup lookup;
+    private final ConcurrentMap<String, Site<MethodHandle>> getters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Site<MethodHandle>> setters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Site<InvokeOverloads<?>>> methods = new ConcurrentHashMap<>();
+
+    InvokeDynamicImpl(MethodHandles.Lookup lookup) {
+        this.lookup = lookup;
+    }
+
+    @Override
+    public <R> R call(Object target, String name, Object... args) {
+        Utils.notNull(target, "target");
+        Utils.notNull(name, "name");
+        InvokeOverloads<?> overloads = methods.computeIfAbsent(name, (n)-> new Site<>((type)->
+                InvokeUtils.getOverloads(lookup, type, n))).get(target.getClass());
+        Object[] arguments = new Object[(args == null) ? 1 : args.length + 1];
+        arguments[0] = target;
+        if (args != null) {
+            System.arraycopy(args, 0, arguments, 1, args.length);
+        }
+        return Utils.cast(overloads.apply(arguments));
+    }
+
+    @Override
+    public <T> T getField(Object target, String name) {
+        Utils.notNull(target, "target");
+        Utils.notNull(name, "name");
+        MethodHandle getter = getters.computeIfAbsent(name, (n)-> new Site<>((type)-> {
+            InvokeField field = PathResolve.getInstanceField(lookup, type, n);
+            return field.getGetterHandle().asType(GETTER_TYPE);
+        })).get(target.getClass());
+        try {
+            Object ret = (Object) getter.invokeExact(target);
+            return Utils.cast(ret);
+        } catch (Throwable t) {
+            throw Utils.asException(t, UnsupportedOperationException.class, "failed to retrieve value");
+        }
+    }
+
+    @Override
+    public void setField(Object target, String name, Object value) {
+        Utils.notNull(target, "target");
+        Utils.notNull(name, "name");
+        MethodHandle setter = setters.computeIfAbsent(name, (n)-> new Site<>((type)-> {
+            InvokeField field = PathResolve.getInstanceField(lookup, type, n);
+            MethodHandle handle = field.getSetterHandle();
+            if (handle == null) {
+                throw new IllegalStateException("No setter available for " + field);
+            }
+            return handle.asType(SETTER_TYPE);
+        })).get(target.getClass());
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable t) {
+            throw Utils.asException(t, IllegalArgumentException.class, ()-> value + " is not a valid value");
+        }
+    }
+}
@@ -30,6 +30,80 @@ import java.util.function.Function;
  */
 public interface InvokeExecutable<R> extends Member, Function<Object[], R> {
 
+    /**
+     * Retrieve a variation of this executable whose target can be replaced while in use
+     * @return {@link InvokeRetargetable} initially targeting this executable
+     * @since 1.2
+     */
+    public default InvokeRetargetable<R> asRetargetable() {
+        return new InvokeRetargetableImpl<>(this);
+    }
+
+    /**
+     * Bind leading arguments of the executable, producing an executable that accepts the remaining arguments.
+     * The produced executable retains the {@link Member} attributes of this executable.
+     * @param position the index of the first argument to bind, {@code 0} being the first argument.
+     *  For instance methods the instance is the first argument
+     * @param values values to bind as arguments starting at {@code position}
+     * @return {@link InvokeExecutable} with the arguments bound
+     * @throws IllegalArgumentException When {@code values} is {@code null},
+     *  {@code position} is out of range, or the values are not compatible with the argument types
+     * @since 1.2
+     */
+    public default InvokeExecutable<R> bindArguments(int position, Object... values) {
+        return InvokeExecutableImpl.bindArguments(this, position, values);
+    }
+
+    /**
+     * Bind the instance of an instance method, producing an executable that accepts the remaining arguments.
+     * The produced executable retains the {@link Member} attributes of this executable.
+     * @param receiver instance to execute the method on
+     * @return {@link InvokeExecutable} with the instance bound
+     * @throws IllegalArgumentException When {@code receiver} is {@code null} or not an instance of the declaring class
+     * @throws IllegalStateException When the executable is not an instance method, or already has bound arguments
+     * @since 1.2
+     */
+    public default InvokeExecutable<R> bindTo(Object receiver) {
+        return InvokeExecutableImpl.bindTo(this, receiver);
+    }
+
+    /**
+     * Execute the single argument executable with each element of an array, such as an instance method without
+     * parameters on each of an array of instances. The executions of this library form a single loop,
+     * so each element costs a direct execution rather than a var-args execution.
+     * The default implementation performs a var-args execution per element.
+     * @param receivers arguments to execute with, one per execution
+     * @param results array to place the result of each execution in, at the same index.
+     *  {@code null} is placed for executions without a return value
+     * @throws IllegalArgumentException When {@code receivers} or {@code results} is {@code null},
+     *  or {@code results} is shorter than {@code receivers}
+     * @throws IllegalStateException When the executable does not execute with a single argument
+     * @throws ClassCastException When an element of {@code receivers} does not match the {@link MethodType}
+     * @throws RuntimeException When the underlying executable throws an exception
+     * @since 1.2
+     */
+    public default void invokeBatch(Object[] receivers, Object[] results) {
+        ExecutableBatch.applyEach(this, receivers, results);
+    }
+
+    /**
+     * Execute the executable with each row of arguments. If the Executable is an instance method,
+     * the instance should be the first argument of each row. The executions of this library form a single loop,
+     * so each row costs a direct execution rather than a var-args execution.
+     * The default implementation performs a var-args execution per row.
+     * @param rows arguments to execute with, one row per execution
+     * @param results array to place the result of each execution in, at the same index.
+     *  {@code null} is placed for executions without a return value
+     * @throws IllegalArgumentException When {@code rows} or {@code results} is {@code null},
+     *  {@code results} is shorter than {@code rows}, or a row does not match the number of arguments
+     * @throws ClassCastException When the type of arguments does not match the {@link MethodType}
+     * @throws RuntimeException When the underlying executable throws an exception
+     * @since 1.2
+     */
+    public default void invokeBatchRows(Object[][] rows, Object[] results) {
+        ExecutableBatch.applyRows(this, rows, results);
+    }
+
     /**
      * Perform a var-args execution on the executable.
      * If the Executable is an instance method, the instance should be the first argument
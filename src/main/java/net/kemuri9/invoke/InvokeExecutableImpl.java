@@ -16,12 +16,14 @@
 package net.kemuri9.invoke;
 
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
 
 /**
@@ -31,11 +33,91 @@ import java.util.Arrays;
  */
 final class InvokeExecutableImpl<R> extends MemberWrapper implements InvokeExecutable<R> {
 
+    /**
+     * Bind arguments of an executable
+     * @param <R> Type of return
+     * @param source {@link InvokeExecutable} to bind the arguments of
+     * @param position index of the first argument to bind
+     * @param values values to bind
+     * @return {@link InvokeExecutable} with the bound arguments
+     */
+    static <R> InvokeExecutable<R> bindArguments(InvokeExecutable<R> source, int position, Object... values) {
+        Utils.notNull(values, "values");
+        MethodHandle handle = source.getHandle();
+        if (position < 0 || position + values.length > handle.type().parameterCount()) {
+            throw new IllegalArgumentException("cannot bind " + values.length + " arguments at position "
+                    + position + " of " + handle.type());
+        }
+        if (values.length == 0) {
+            return source;
+        }
+        try {
+            return new InvokeExecutableImpl<>(source, MethodHandles.insertArguments(handle, position, values));
+        } catch (ClassCastException | NullPointerException ex) {
+            throw new IllegalArgumentException(Arrays.toString(values) + " are not valid arguments for "
+                    + handle.type(), ex);
+        }
+    }
+
+    /**
+     * Bind the receiver of an instance method
+     * @param <R> Type of return
+     * @param source {@link InvokeExecutable} to bind the receiver of
+     * @param receiver instance to bind
+     * @return {@link InvokeExecutable} with the bound receiver
+     */
+    static <R> InvokeExecutable<R> bindTo(InvokeExecutable<R> source, Object receiver) {
+        Utils.notNull(receiver, "receiver");
+        if (Modifier.isStatic(source.getModifiers()) || Utils.isConstructor(source)) {
+            throw new IllegalStateException(source + " is not an instance method");
+        }
+        if (isBound(source)) {
+            throw new IllegalStateException(source + " already has bound arguments");
+        }
+        if (!source.getDeclaringClass().isInstance(receiver)) {
+            throw new IllegalArgumentException(receiver + " is not an instance of " + source.getDeclaringClass());
+        }
+        MethodHandle handle = source.getHandle();
+        try {
+            return new InvokeExecutableImpl<>(source, handle.bindTo(receiver));
+        } catch (ClassCastException | NullPointerException ex) {
+            throw new IllegalArgumentException(receiver + " is not a valid receiver for " + handle.type(), ex);
+        }
+    }
+
+    /**
+     * Determine if an executable is derived from binding arguments, in which case its receiver may already be bound
+     * @param exec {@link InvokeExecutable} to check
+     * @return {@code true} when arguments of {@code exec} are bound
+     */
+    static boolean isBound(InvokeExecutable<?> exec) {
+        if (exec instanceof InvokeExecutableImpl) {
+            return ((InvokeExecutableImpl<?>) exec).source != null;
+        }
+        if (exec instanceof InvokeConvertingImpl) {
+            return isBound(((InvokeConvertingImpl<?>) exec).getSource());
+        }
+        if (exec instanceof InvokeRetargetable) {
+            return isBound(((InvokeRetargetable<?>) exec).getTarget());
+        }
+        return false;
+    }
+
     private final MethodHandle handle;
+    /** executable that this was bound from, {@code null} when this executes the member directly */
+    private final InvokeExecutable<?> source;
+    private final Lazy<ExecutableBatch> batch = new Lazy<>(()-> new ExecutableBatch(this));
 
     InvokeExecutableImpl(Member member, MethodHandle handle) {
         super(member);
         this.handle = handle;
+        this.source = null;
+    }
+
+    private InvokeExecutableImpl(InvokeExecutable<?> source, MethodHandle handle) {
+        super(source);
+        this.handle = handle;
+        this.source = source;
     }
 
     @Override
@@ -45,22 +127,21 @@ final class InvokeExecutableImpl<R> extends MemberWrapper implements InvokeExecu
             return Utils.cast(ret);
         } catch (Throwable t) {
             throw Utils.asException(t, RuntimeException.class,
-                    "failed to execute " + this + " with arguments " + Arrays.toString(arguments));
+                    ()-> "failed to execute " + this + " with arguments " + Arrays.toString(arguments));
         }
     }
 
     @Override
     public Executable getExecutable(Lookup lookup) throws IllegalAccessException {
+        if (source != null) {
+            return source.getExecutable(lookup);
+        }
         lookup = InvokeUtils.defaultLookup(lookup);
         if (member instanceof Executable) {
             // perform an unreflect to check the access
             UnreflectToMethodHandle.EXECUTABLE.unreflect(lookup, (Executable) member);
         }
-        /* internally the names for constructors are <init>,
-         * but in reflection this becomes the declaring class name */
-        String name = getName();
-        Class<? extends Executable> memberType =
-                getDeclaringClass().getName().equals(name) ? Constructor.class : Method.class;
+        Class<? extends Executable> memberType = Utils.isConstructor(member) ? Constructor.class : Method.class;
         try {
             return lookup.revealDirect(handle).reflectAs(memberType, lookup);
         } catch (IllegalArgumentException ex) {
@@ -82,4 +163,14 @@ final class InvokeExecutableImpl<R> extends MemberWrapper implements InvokeExecu
     public R invoke(Object... args) {
         return apply(args);
     }
+
+    @Override
+    public void invokeBatch(Object[] receivers, Object[] results) {
+        batch.get().invoke(receivers, results);
+    }
+
+    @Override
+    public void invokeBatchRows(Object[][] rows, Object[] results) {
+        batch.get().invokeRows(rows, results);
+    }
 }
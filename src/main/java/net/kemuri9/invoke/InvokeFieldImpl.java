@@ -36,6 +36,10 @@ abstract class InvokeFieldImpl extends MemberWrapper implements InvokeField {
             lookup.unreflectGetter((Field) member);
             return (Field) member;
         }
+        if (member instanceof InvokeField) {
+            // a variation of another field, such as a stable variation
+            return ((InvokeField) member).getField(lookup);
+        }
         // reveal direct to get the field
         try {
             return lookup.revealDirect(getGetterHandle()).reflectAs(Field.class, lookup);
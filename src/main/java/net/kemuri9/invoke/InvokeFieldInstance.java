@@ -26,6 +26,58 @@ import java.util.function.Function;
  */
 public interface InvokeFieldInstance<C, T> extends Function<C, T>, BiConsumer<C, T>, InvokeField {
 
+    /**
+     * Extract the values of the field from an array of instances into an array of {@code int} values.
+     * The values are converted as {@link java.lang.invoke.MethodHandle#asType} would, so no boxing occurs
+     * for primitive fields that widen to {@code int}.
+     * @param source instances to extract the values of the field from
+     * @param dest array to place the value of each instance in, at the same index
+     * @throws IllegalArgumentException When {@code source} or {@code dest} is {@code null},
+     *  {@code dest} is shorter than {@code source}, or the field can not be converted to {@code int}
+     * @throws NullPointerException When an element of {@code source} is {@code null}
+     * @since 1.2
+     */
+    public void extract(Object[] source, int[] dest);
+
+    /**
+     * Extract the values of the field from an array of instances into an array of {@code long} values.
+     * The values are converted as {@link java.lang.invoke.MethodHandle#asType} would, so no boxing occurs
+     * for primitive fields that widen to {@code long}.
+     * @param source instances to extract the values of the field from
+     * @param dest array to place the value of each instance in, at the same index
+     * @throws IllegalArgumentException When {@code source} or {@code dest} is {@code null},
+     *  {@code dest} is shorter than {@code source}, or the field can not be converted to {@code long}
+     * @throws NullPointerException When an element of {@code source} is {@code null}
+     * @since 1.2
+     */
+    public void extract(Object[] source, long[] dest);
+
+    /**
+     * Extract the values of the field from an array of instances into an array of {@code double} values.
+     * The values are converted as {@link java.lang.invoke.MethodHandle#asType} would, so no boxing occurs
+     * for primitive fields that widen to {@code double}.
+     * @param source instances to extract the values of the field from
+     * @param dest array to place the value of each instance in, at the same index
+     * @throws IllegalArgumentException When {@code source} or {@code dest} is {@code null},
+     *  {@code dest} is shorter than {@code source}, or the field can not be converted to {@code double}
+     * @throws NullPointerException When an element of {@code source} is {@code null}
+     * @since 1.2
+     */
+    public void extract(Object[] source, double[] dest);
+
+    /**
+     * Extract the values of the field from an array of instances into an array of {@link Object} values.
+     * The values are converted as {@link java.lang.invoke.MethodHandle#asType} would, so no boxing occurs
+     * for primitive fields that widen to {@link Object}.
+     * @param source instances to extract the values of the field from
+     * @param dest array to place the value of each instance in, at the same index
+     * @throws IllegalArgumentException When {@code source} or {@code dest} is {@code null},
+     *  {@code dest} is shorter than {@code source}, or the field can not be converted to {@link Object}
+     * @throws NullPointerException When an element of {@code source} is {@code null}
+     * @since 1.2
+     */
+    public void extract(Object[] source, Object[] dest);
+
     /**
      * Retrieve the {@link Function} that can retrieve values of the underlying field given instances of the class
      * @return {@link Function} that can perform get operations for the underlying field
@@ -39,4 +91,56 @@ public interface InvokeFieldInstance<C, T> extends Function<C, T>, BiConsumer<C,
      * @throws IllegalStateException If the associated field does not have set access permissions
      */
     public BiConsumer<C, T> getSetter();
+
+    /**
+     * Scatter an array of {@code int} values to the field of an array of instances.
+     * The values are converted as {@link java.lang.invoke.MethodHandle#asType} would.
+     * @param source values to set, at the same index as the instance to set them on
+     * @param dest instances to set the values of the field on
+     * @throws IllegalArgumentException When {@code source} or {@code dest} is {@code null},
+     *  {@code dest} is shorter than {@code source}, or {@code int} can not be converted to the field
+     * @throws IllegalStateException If the associated field does not have set access permissions
+     * @throws NullPointerException When an element of {@code dest} is {@code null}
+     * @since 1.2
+     */
+    public void scatter(int[] source, Object[] dest);
+
+    /**
+     * Scatter an array of {@code long} values to the field of an array of instances.
+     * The values are converted as {@link java.lang.invoke.MethodHandle#asType} would.
+     * @param source values to set, at the same index as the instance to set them on
+     * @param dest instances to set the values of the field on
+     * @throws IllegalArgumentException When {@code source} or {@code dest} is {@code null},
+     *  {@code dest} is shorter than {@code source}, or {@code long} can not be converted to the field
+     * @throws IllegalStateException If the associated field does not have set access permissions
+     * @throws NullPointerException When an element of {@code dest} is {@code null}
+     * @since 1.2
+     */
+    public void scatter(long[] source, Object[] dest);
+
+    /**
+     * Scatter an array of {@code double} values to the field of an array of instances.
+     * The values are converted as {@link java.lang.invoke.MethodHandle#asType} would.
+     * @param source values to set, at the same index as the instance to set them on
+     * @param dest instances to set the values of the field on
+     * @throws IllegalArgumentException When {@code source} or {@code dest} is {@code null},
+     *  {@code dest} is shorter than {@code source}, or {@code double} can not be converted to the field
+     * @throws IllegalStateException If the associated field does not have set access permissions
+     * @throws NullPointerException When an element of {@code dest} is {@code null}
+     * @since 1.2
+     */
+    public void scatter(double[] source, Object[] dest);
+
+    /**
+     * Scatter an array of {@link Object} values to the field of an array of instances.
+     * The values are converted as {@link java.lang.invoke.MethodHandle#asType} would.
+     * @param source values to set, at the same index as the instance to set them on
+     * @param dest instances to set the values of the field on
+     * @throws IllegalArgumentException When {@code source} or {@code dest} is {@code null},
+     *  {@code dest} is shorter than {@code source}, or {@link Object} can not be converted to the field
+     * @throws IllegalStateException If the associated field does not have set access permissions
+     * @throws NullPointerException When an element of {@code dest} is {@code null}
+     * @since 1.2
+     */
+    public void scatter(Object[] source, Object[] dest);
 }
@@ -20,6 +20,7 @@ import java.lang.invoke.MethodType;
 import java.lang.reflect.Member;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 final class InvokeFieldInstanceImpl<C, F> extends InvokeFieldImpl implements InvokeFieldInstance<C, F> {
 
@@ -36,7 +37,7 @@ final class InvokeFieldInstanceImpl<C, F> extends InvokeFieldImpl implements Inv
             try {
                 return Utils.cast(handle.invoke(t));
             } catch (Throwable ex) {
-                throw Utils.asException(ex, IllegalArgumentException.class, t + " is not a valid value");
+                throw Utils.asException(ex, IllegalArgumentException.class, ()-> t + " is not a valid value");
             }
         }
     }
@@ -54,18 +55,35 @@ final class InvokeFieldInstanceImpl<C, F> extends InvokeFieldImpl implements Inv
             try {
                 handle.invoke(t, u);
             } catch (Throwable ex) {
-                throw Utils.asException(ex, IllegalArgumentException.class, t + " and " + u + " are not valid values");
+                throw Utils.asException(ex, IllegalArgumentException.class,
+                        ()-> t + " and " + u + " are not valid values");
             }
         }
     }
 
     private final Getter<C, F> getter;
-    private final Setter<C, F> setter;
+    private final Lazy<Setter<C, F>> setter;
+    private final Lazy<FieldBatch> batch = new Lazy<>(()-> new FieldBatch(this));
 
     InvokeFieldInstanceImpl(Member member, MethodHandle getter, MethodHandle setter) {
         super(member);
         this.getter = new Getter<>(getter);
-        this.setter = (setter == null) ? null : new Setter<>(setter);
+        this.setter = Lazy.of((setter == null) ? null : new Setter<>(setter));
+    }
+
+    /**
+     * Create with a setter that is resolved on first use
+     * @param member {@link Member} of the field
+     * @param getter getter {@link MethodHandle}
+     * @param setter {@link Supplier} of the setter {@link MethodHandle}, supplying {@code null} when read only
+     */
+    InvokeFieldInstanceImpl(Member member, MethodHandle getter, Supplier<MethodHandle> setter) {
+        super(member);
+        this.getter = new Getter<>(getter);
+        this.setter = new Lazy<>(()-> {
+            MethodHandle handle = setter.get();
+            return (handle == null) ? null : new Setter<>(handle);
+        });
     }
 
     @Override
@@ -88,6 +106,26 @@ final class InvokeFieldInstanceImpl<C, F> extends InvokeFieldImpl implements Inv
         throw new IllegalStateException(this + " is an instance field");
     }
 
+    @Override
+    public void extract(Object[] source, int[] dest) {
+        batch.get().extract(source, dest);
+    }
+
+    @Override
+    public void extract(Object[] source, long[] dest) {
+        batch.get().extract(source, dest);
+    }
+
+    @Override
+    public void extract(Object[] source, double[] dest) {
+        batch.get().extract(source, dest);
+    }
+
+    @Override
+    public void extract(Object[] source, Object[] dest) {
+        batch.get().extract(source, dest);
+    }
+
     @Override
     public Getter<C, F> getGetter() {
         return getter;
@@ -100,6 +138,7 @@ final class InvokeFieldInstanceImpl<C, F> extends InvokeFieldImpl implements Inv
 
     @Override
     public Setter<C, F> getSetter() {
+        Setter<C, F> setter = this.setter.get();
         if (setter == null) {
             throw new IllegalStateException("No setter available for " + this);
         }
@@ -108,6 +147,7 @@ final class InvokeFieldInstanceImpl<C, F> extends InvokeFieldImpl implements Inv
 
     @Override
     public MethodHandle getSetterHandle() {
+        Setter<C, F> setter = this.setter.get();
         return (setter == null) ? null : setter.handle;
     }
 
@@ -115,4 +155,24 @@ final class InvokeFieldInstanceImpl<C, F> extends InvokeFieldImpl implements Inv
     public MethodType getType() {
         return getter.handle.type();
     }
+
+    @Override
+    public void scatter(int[] source, Object[] dest) {
+        batch.get().scatter(source, dest);
+    }
+
+    @Override
+    public void scatter(long[] source, Object[] dest) {
+        batch.get().scatter(source, dest);
+    }
+
+    @Override
+    public void scatter(double[] source, Object[] dest) {
+        batch.get().scatter(source, dest);
+    }
+
+    @Override
+    public void scatter(Object[] source, Object[] dest) {
+        batch.get().scatter(source, dest);
+    }
 }
@@ -15,6 +15,7 @@
  */
 package net.kemuri9.invoke;
 
+import java.lang.invoke.MutableCallSite;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -27,6 +28,20 @@ import java.util.function.Supplier;
  */
 public interface InvokeFieldStatic<T> extends InvokeField, Consumer<T>, Supplier<T> {
 
+    /**
+     * Retrieve a stable variation of this field, intended for fields that are rarely written such as configuration.
+     * Reads of the stable variation are performed through a {@link MutableCallSite} linked to the current value,
+     * which the JIT is able to constant fold.
+     * Writes through any {@link InvokeFieldStatic} of the field re-link the call site, keeping reads current.
+     * Writes performed outside of this library are not observed until the field is next written through this library.
+     * The default implementation reads through a stable variation of {@link #getGetterHandle()}.
+     * @return stable variation of this field
+     * @since 1.2
+     */
+    public default InvokeFieldStatic<T> asStable() {
+        return InvokeFieldStaticImpl.stable(this);
+    }
+
     /**
      * Retrieve the {@link Function} that can retrieve the value of the underlying field
      * @return {@link Function} that can perform get operations for the underlying field
@@ -43,9 +43,11 @@ final class InvokeFieldStaticImpl<F> extends InvokeFieldImpl implements InvokeFi
 
     private static final class Setter<F> implements Consumer<F> {
 
+        private final Member member;
         private final MethodHandle handle;
 
-        Setter(MethodHandle handle) {
+        Setter(Member member, MethodHandle handle) {
+            this.member = member;
             this.handle = handle;
         }
 
@@ -54,18 +56,50 @@ final class InvokeFieldStaticImpl<F> extends InvokeFieldImpl implements InvokeFi
             try {
                 handle.invoke(u);
             } catch (Throwable ex) {
-                throw Utils.asException(ex, IllegalArgumentException.class, u + " is not a valid value");
+                throw Utils.asException(ex, IllegalArgumentException.class, ()-> u + " is not a valid value");
             }
+            StableStatics.written(member);
         }
     }
 
+    /**
+     * Create the stable variation of a static field
+     * @param <F> Type of field
+     * @param field {@link InvokeFieldStatic} to create the stable variation of
+     * @return stable variation of {@code field}
+     */
+    static <F> InvokeFieldStatic<F> stable(InvokeFieldStatic<F> field) {
+        return new InvokeFieldStaticImpl<>(field, StableStatics.getStableGetter(field, field.getGetterHandle()),
+                field::getSetterHandle, true);
+    }
+
     private final Getter<F> getter;
-    private final Setter<F> setter;
+    private final Lazy<Setter<F>> setter;
+    private final boolean stable;
 
     InvokeFieldStaticImpl(Member member, MethodHandle getter, MethodHandle setter) {
+        this(member, getter, Lazy.of(setter), false);
+    }
+
+    /**
+     * Create with a setter that is resolved on first use
+     * @param member {@link Member} of the field
+     * @param getter getter {@link MethodHandle}
+     * @param setter {@link Supplier} of the setter {@link MethodHandle}, supplying {@code null} when read only
+     */
+    InvokeFieldStaticImpl(Member member, MethodHandle getter, Supplier<MethodHandle> setter) {
+        this(member, getter, setter, false);
+    }
+
+    private InvokeFieldStaticImpl(Member member, MethodHandle getter, Supplier<MethodHandle> setter,
+            boolean stable) {
         super(member);
         this.getter = new Getter<>(getter);
-        this.setter = (setter == null) ? null : new Setter<>(setter);
+        this.setter = new Lazy<>(()-> {
+            MethodHandle handle = setter.get();
+            return (handle == null) ? null : new Setter<>(member, handle);
+        });
+        this.stable = stable;
     }
 
     @Override
@@ -78,6 +112,15 @@ final class InvokeFieldStaticImpl<F> extends InvokeFieldImpl implements InvokeFi
         throw new IllegalStateException(this + " is a static field");
     }
 
+    @Override
+    public InvokeFieldStatic<F> asStable() {
+        if (stable) {
+            return this;
+        }
+        return new InvokeFieldStaticImpl<>(member, StableStatics.getStableGetter(member, getter.handle),
+                this::getSetterHandle, true);
+    }
+
     @Override
     public <A> InvokeFieldStatic<A> asStatic() {
         return Utils.cast(this);
@@ -100,6 +143,7 @@ final class InvokeFieldStaticImpl<F> extends InvokeFieldImpl implements InvokeFi
 
     @Override
     public Setter<F> getSetter() {
+        Setter<F> setter = this.setter.get();
         if (setter == null) {
             throw new IllegalStateException("No setter available for " + this);
         }
@@ -108,6 +152,7 @@ final class InvokeFieldStaticImpl<F> extends InvokeFieldImpl implements InvokeFi
 
     @Override
     public MethodHandle getSetterHandle() {
+        Setter<F> setter = this.setter.get();
         return (setter == null) ? null : setter.handle;
     }
 
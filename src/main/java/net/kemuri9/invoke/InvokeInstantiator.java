@@ -0,0 +1,58 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.util.function.Supplier;
+
+/**
+ * Creates new instances of a type through the Invocation engine,
+ * either through its no argument constructor or by allocating the instance without running any constructor.
+ *
+ * @param <T> Type that is instantiated
+ * @since 1.2
+ */
+public interface InvokeInstantiator<T> extends Supplier<T> {
+
+    /**
+     * Create a new instance.
+     * When not {@link #isConstructing() constructing}, all fields of the instance hold their default values,
+     * including fields with initializers.
+     * @return new instance
+     * @throws RuntimeException When the instantiation fails
+     */
+    @Override
+    public T get();
+
+    /**
+     * Retrieve the {@link MethodHandle} that creates the new instances
+     * @return {@link MethodHandle} taking no arguments and returning the new instance
+     */
+    public MethodHandle getHandle();
+
+    /**
+     * Retrieve the type that is instantiated
+     * @return type that is instantiated
+     */
+    public Class<T> getType();
+
+    /**
+     * Retrieve if the instances are created by running the no argument constructor
+     * @return state of the no argument constructor being ran.
+     *  {@code false} indicates that no constructor is ran
+     */
+    public boolean isConstructing();
+}
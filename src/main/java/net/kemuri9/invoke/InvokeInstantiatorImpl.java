@@ -0,0 +1,72 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+/**
+ * Implementation of {@link InvokeInstantiator}
+ *
+ * @param <T> Type that is instantiated
+ */
+final class InvokeInstantiatorImpl<T> implements InvokeInstantiator<T> {
+
+    private static final MethodType GENERIC = MethodType.methodType(Object.class);
+
+    private final Class<T> type;
+    private final MethodHandle handle;
+    /** handle erased to Object for use with invokeExact */
+    private final MethodHandle generic;
+    private final boolean constructing;
+
+    InvokeInstantiatorImpl(Class<T> type, MethodHandle handle, boolean constructing) {
+        this.type = type;
+        this.handle = handle;
+        this.generic = handle.asType(GENERIC);
+        this.constructing = constructing;
+    }
+
+    @Override
+    public T get() {
+        try {
+            return Utils.cast((Object) generic.invokeExact());
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, ()-> "failed to instantiate " + type.getName());
+        }
+    }
+
+    @Override
+    public MethodHandle getHandle() {
+        return handle;
+    }
+
+    @Override
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    public boolean isConstructing() {
+        return constructing;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(64).append("InvokeInstantiator[type=").append(type.getName())
+                .append(", constructing=").append(constructing).append("]").toString();
+    }
+}
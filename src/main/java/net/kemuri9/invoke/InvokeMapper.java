@@ -0,0 +1,67 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps the instance fields of a type to and from a {@link Map} of field name to value
+ * through the Invocation engine.
+ *
+ * @param <C> Class type that is mapped
+ * @since 1.2
+ */
+public interface InvokeMapper<C> {
+
+    /**
+     * Write the values of a {@link Map} to the fields of an instance.
+     * Entries of {@code values} that do not name a mapped field are ignored,
+     * as are mapped fields that have no entry in {@code values} or that are not writable.
+     * @param target instance to write the fields of
+     * @param values {@link Map} of field name to value
+     * @return {@code target}
+     * @throws IllegalArgumentException When {@code target} or {@code values} is {@code null},
+     *  or a value is not valid for its field
+     */
+    public C fill(C target, Map<String, ?> values);
+
+    /**
+     * Retrieve the names of the mapped fields
+     * @return unmodifiable {@link List} of the names of the mapped fields, in the order they are mapped
+     */
+    public List<String> getNames();
+
+    /**
+     * Retrieve the type that is mapped
+     * @return type that is mapped
+     */
+    public Class<C> getType();
+
+    /**
+     * Retrieve the names of the mapped fields that are writable by {@link #fill(Object, Map)}
+     * @return unmodifiable {@link List} of the names of the writable fields, in the order they are mapped
+     */
+    public List<String> getWritableNames();
+
+    /**
+     * Read the fields of an instance into a new {@link Map}
+     * @param source instance to read the fields of
+     * @return new modifiable {@link Map} of field name to value, ordered as {@link #getNames()}
+     * @throws IllegalArgumentException When {@code source} is {@code null}
+     */
+    public Map<String, Object> toMap(C source);
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of {@link InvokeMapper}
+ *
+ * @param <C> Class type that is mapped
+ */
+final class InvokeMapperImpl<C> implements InvokeMapper<C> {
+
+    private static final MethodType GENERIC_GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType GENERIC_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<C> type;
+    /** interned field names, so that lookups in the produced maps mostly compare by identity */
+    private final String[] names;
+    /** getters erased to Object for use with invokeExact */
+    private final MethodHandle[] getters;
+    /** setters erased to Object for use with invokeExact. {@code null} entries are not writable */
+    private final MethodHandle[] setters;
+    /** initial capacity of produced maps so that they never resize */
+    private final int capacity;
+    private final List<String> nameList;
+    private final List<String> writableNames;
+
+    InvokeMapperImpl(Class<C> type, List<InvokeField> fields, List<MethodHandle> setterHandles) {
+        this.type = type;
+        int count = fields.size();
+        names = new String[count];
+        getters = new MethodHandle[count];
+        setters = new MethodHandle[count];
+        List<String> writable = new ArrayList<>(count);
+        for (int idx = 0; idx < count; ++idx) {
+            InvokeField field = fields.get(idx);
+            names[idx] = field.getName().intern();
+            getters[idx] = field.getGetterHandle().asType(GENERIC_GETTER);
+            MethodHandle setter = setterHandles.get(idx);
+            if (setter != null) {
+                setters[idx] = setter.asType(GENERIC_SETTER);
+                writable.add(names[idx]);
+            }
+        }
+        capacity = count * 4 / 3 + 1;
+        nameList = Collections.unmodifiableList(Arrays.asList(names));
+        writableNames = Collections.unmodifiableList(writable);
+    }
+
+    @Override
+    public C fill(C target, Map<String, ?> values) {
+        Utils.notNull(target, "target");
+        Utils.notNull(values, "values");
+        type.cast(target);
+        for (int idx = 0; idx < names.length; ++idx) {
+            MethodHandle setter = setters[idx];
+            if (setter == null) {
+                continue;
+            }
+            String name = names[idx];
+            Object value = values.get(name);
+            if (value == null && !values.containsKey(name)) {
+                continue;
+            }
+            try {
+                setter.invokeExact((Object) target, value);
+            } catch (Throwable t) {
+                throw Utils.asException(t, IllegalArgumentException.class,
+                        ()-> value + " is not a valid value for " + name);
+            }
+        }
+        return target;
+    }
+
+    @Override
+    public List<String> getNames() {
+        return nameList;
+    }
+
+    @Override
+    public Class<C> getType() {
+        return type;
+    }
+
+    @Override
+    public List<String> getWritableNames() {
+        return writableNames;
+    }
+
+    @Override
+    public Map<String, Object> toMap(C source) {
+        Utils.notNull(source, "source");
+        Map<String, Object> map = new LinkedHashMap<>(capacity);
+        for (int idx = 0; idx < names.length; ++idx) {
+            try {
+                map.put(names[idx], (Object) getters[idx].invokeExact((Object) source));
+            } catch (Throwable t) {
+                throw Utils.asException(t, IllegalArgumentException.class, ()-> source + " is not a valid value");
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(64).append("InvokeMapper[type=").append(type.getName())
+                .append(", names=").append(nameList).append("]").toString();
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Represents the overloads of a method name on a type, executed by selecting the most specific overload
+ * applicable to the runtime types of the arguments.
+ * <p>
+ * Selection follows the rules of the Java Language Specification for the runtime types of the arguments,
+ * first considering overloads applicable without unboxing, then with unboxing and primitive widening.
+ * Variable arity overloads are only applicable by their array parameter.
+ * Instance methods take the instance as the first argument.
+ * Selections are memoized per argument types in an inline cache of the {@link #getHandle() handle}.
+ *
+ * @param <R> Type of return of the overloads
+ * @since 1.2
+ */
+public interface InvokeOverloads<R> extends Function<Object[], R> {
+
+    /**
+     * Retrieve the overloads that are candidates for selection, excluding overridden methods
+     * @return {@link List} of candidate {@link InvokeExecutable}s
+     */
+    public List<InvokeExecutable<?>> getCandidates();
+
+    /**
+     * Retrieve the {@link Class} that the overloads were retrieved from
+     * @return {@link Class} that the overloads were retrieved from
+     */
+    public Class<?> getDeclaringClass();
+
+    /**
+     * Retrieve the {@link MethodHandle} that selects and executes the overload, of type {@code (Object[])Object}
+     * @return {@link MethodHandle} that selects and executes the overload
+     */
+    public MethodHandle getHandle();
+
+    /**
+     * Retrieve the name of the overloads
+     * @return name of the overloads
+     */
+    public String getName();
+
+    /**
+     * Execute the most specific overload applicable to the arguments
+     * @param args arguments to execute with
+     * @return return value of the execution
+     * @throws IllegalArgumentException When no overload is applicable, or the most specific is ambiguous
+     * @throws RuntimeException When the underlying executable throws an exception
+     */
+    public R invoke(Object... args);
+
+    /**
+     * Select the most specific overload applicable to the specified argument types
+     * @param argTypes types of the arguments. {@code null} elements represent {@code null} arguments
+     * @return most specific {@link InvokeExecutable} applicable to {@code argTypes}
+     * @throws IllegalArgumentException When no overload is applicable, or the most specific is ambiguous
+     */
+    public InvokeExecutable<?> select(Class<?>... argTypes);
+}
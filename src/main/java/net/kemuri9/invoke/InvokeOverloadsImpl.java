@@ -0,0 +1,253 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Implementation of {@link InvokeOverloads}
+ *
+ * @param <R> Type of return
+ */
+final class InvokeOverloadsImpl<R> implements InvokeOverloads<R> {
+
+    /** maximum number of argument type guards chained before further selections are only cached */
+    static final int INLINE_LIMIT = 8;
+
+    private static final MethodHandle FALLBACK;
+    private static final MethodHandle MATCHES;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            FALLBACK = lookup.findVirtual(InvokeOverloadsImpl.class, "fallback",
+                    MethodType.methodType(Object.class, Object[].class));
+            MATCHES = lookup.findStatic(InvokeOverloadsImpl.class, "matches",
+                    MethodType.methodType(boolean.class, Class[].class, Object[].class));
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    static Class<?> typeOf(Object arg) {
+        return (arg == null) ? Void.class : arg.getClass();
+    }
+
+    static boolean matches(Class<?>[] argTypes, Object[] args) {
+        if (args.length != argTypes.length) {
+            return false;
+        }
+        for (int idx = 0; idx < args.length; ++idx) {
+            if (typeOf(args[idx]) != argTypes[idx]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isApplicable(MethodType type, Class<?>[] argTypes, boolean unboxing) {
+        if (type.parameterCount() != argTypes.length) {
+            return false;
+        }
+        for (int idx = 0; idx < argTypes.length; ++idx) {
+            Class<?> paramType = type.parameterType(idx);
+            if (!unboxing && paramType.isPrimitive()) {
+                return false;
+            }
+            if (!InvokeConverters.isApplicable(argTypes[idx], paramType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMoreSpecific(InvokeExecutable<?> candidate, InvokeExecutable<?> other) {
+        MethodType type = candidate.getType();
+        MethodType otherMethodType = other.getType();
+        // receivers are not part of the signature, so instance methods only compare their declared parameters
+        int start = (Modifier.isStatic(candidate.getModifiers()) || Modifier.isStatic(other.getModifiers())) ? 0 : 1;
+        for (int idx = start; idx < type.parameterCount(); ++idx) {
+            Class<?> paramType = type.parameterType(idx);
+            Class<?> otherType = otherMethodType.parameterType(idx);
+            if (paramType.isPrimitive() != otherType.isPrimitive()) {
+                return false;
+            }
+            if (paramType.isPrimitive() ? !InvokeConverters.isWidening(paramType, otherType)
+                    : !otherType.isAssignableFrom(paramType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static MethodHandle spread(InvokeExecutable<?> executable) {
+        MethodHandle handle = executable.getHandle().asFixedArity();
+        int count = handle.type().parameterCount();
+        return handle.asType(MethodType.genericMethodType(count)).asSpreader(Object[].class, count);
+    }
+
+    private final Class<?> type;
+    private final String name;
+    private final List<InvokeExecutable<?>> candidates;
+    /** selections by argument types, as handles of type (Object[])Object */
+    private final ConcurrentMap<List<Class<?>>, MethodHandle> selections = new ConcurrentHashMap<>();
+    private final MutableCallSite site;
+    private final MethodHandle invoker;
+    /** number of guards in the chain of the call site, guarded by this */
+    private int depth;
+
+    InvokeOverloadsImpl(Class<?> type, String name, List<InvokeExecutable<?>> methods) {
+        this.type = type;
+        this.name = name;
+        // exclude overridden methods, which are encountered after their overriding methods
+        List<InvokeExecutable<?>> candidates = new ArrayList<>(methods.size());
+        Set<List<Object>> signatures = new HashSet<>();
+        for (InvokeExecutable<?> method : methods) {
+            if (!name.equals(method.getName()) || method.isSynthetic()) {
+                continue;
+            }
+            boolean isStatic = Modifier.isStatic(method.getModifiers());
+            MethodType methodType = isStatic ? method.getType() : method.getType().dropParameterTypes(0, 1);
+            if (signatures.add(Arrays.asList(isStatic, methodType.parameterList()))) {
+                candidates.add(method);
+            }
+        }
+        this.candidates = Collections.unmodifiableList(candidates);
+        this.site = new MutableCallSite(FALLBACK.bindTo(this));
+        this.invoker = site.dynamicInvoker();
+    }
+
+    @Override
+    public R apply(Object[] args) {
+        Utils.notNull(args, "args");
+        try {
+            Object ret = (Object) invoker.invokeExact(args);
+            return Utils.cast(ret);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class,
+                    ()-> "failed to execute " + this + " with arguments " + Arrays.toString(args));
+        }
+    }
+
+    /**
+     * Select the overload for the arguments, extending the inline cache with the selection
+     * @param args arguments to select and execute with
+     * @return return value of the execution
+     * @throws Throwable When the selection or execution fails
+     */
+    private Object fallback(Object[] args) throws Throwable {
+        Class<?>[] argTypes = new Class<?>[args.length];
+        for (int idx = 0; idx < args.length; ++idx) {
+            argTypes[idx] = typeOf(args[idx]);
+        }
+        List<Class<?>> key = Arrays.asList(argTypes);
+        MethodHandle handle = selections.get(key);
+        if (handle == null) {
+            handle = spread(select(argTypes));
+            MethodHandle existing = selections.putIfAbsent(key, handle);
+            if (existing != null) {
+                handle = existing;
+            } else {
+                synchronized (this) {
+                    if (depth < INLINE_LIMIT) {
+                        site.setTarget(MethodHandles.guardWithTest(MATCHES.bindTo(argTypes), handle,
+                                site.getTarget()));
+                        ++depth;
+                    }
+                }
+            }
+        }
+        return (Object) handle.invokeExact(args);
+    }
+
+    @Override
+    public List<InvokeExecutable<?>> getCandidates() {
+        return candidates;
+    }
+
+    @Override
+    public Class<?> getDeclaringClass() {
+        return type;
+    }
+
+    @Override
+    public MethodHandle getHandle() {
+        return invoker;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public R invoke(Object... args) {
+        return apply(args);
+    }
+
+    @Override
+    public InvokeExecutable<?> select(Class<?>... argTypes) {
+        Utils.notNull(argTypes, "argTypes");
+        argTypes = argTypes.clone();
+        for (int idx = 0; idx < argTypes.length; ++idx) {
+            argTypes[idx] = Utils.defaultValue(argTypes[idx], Void.class);
+        }
+        // phase 1 without unboxing, phase 2 with unboxing
+        for (boolean unboxing : new boolean[] { false, true }) {
+            List<InvokeExecutable<?>> applicable = new ArrayList<>();
+            for (InvokeExecutable<?> candidate : candidates) {
+                if (isApplicable(candidate.getType(), argTypes, unboxing)) {
+                    applicable.add(candidate);
+                }
+            }
+            if (applicable.isEmpty()) {
+                continue;
+            }
+            for (InvokeExecutable<?> candidate : applicable) {
+                boolean mostSpecific = true;
+                for (InvokeExecutable<?> other : applicable) {
+                    if (!isMoreSpecific(candidate, other)) {
+                        mostSpecific = false;
+                        break;
+                    }
+                }
+                if (mostSpecific) {
+                    return candidate;
+                }
+            }
+            throw new IllegalArgumentException(this + " is ambiguous for " + Arrays.toString(argTypes)
+                    + " between " + applicable);
+        }
+        throw new IllegalArgumentException(this + " has no overload applicable to " + Arrays.toString(argTypes));
+    }
+
+    @Override
+    public String toString() {
+        return type.getName() + "." + name;
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Represents a path of instance fields, such as {@code "order.customer.address.city"},
+ * navigated from a root type through the Invocation engine.
+ * Reading the path is null-safe: when the root or any intermediate value is {@code null}, the result is {@code null}.
+ * Writing the path updates the field of the last hop on the value the preceding hops navigate to.
+ *
+ * @param <C> Class type the path is navigated from
+ * @param <T> Type of the last hop of the path, boxed when primitive
+ * @since 1.2
+ */
+public interface InvokePath<C, T> extends Function<C, T>, BiConsumer<C, T> {
+
+    /**
+     * Retrieve the {@link InvokeField}s navigated by the path, in order
+     * @return unmodifiable {@link List} of {@link InvokeField}, one for each hop of the path
+     */
+    public List<InvokeField> getFields();
+
+    /**
+     * Retrieve the {@link MethodHandle} that reads the path
+     * @return {@link MethodHandle} of type {@code (C)T} that reads the path.
+     *  The handle results in {@code null} when the root or any intermediate value is {@code null}
+     */
+    public MethodHandle getGetterHandle();
+
+    /**
+     * Retrieve the path
+     * @return path, with hops separated by {@code '.'}
+     */
+    public String getPath();
+
+    /**
+     * Retrieve the type the path is navigated from
+     * @return type the path is navigated from
+     */
+    public Class<C> getRootType();
+
+    /**
+     * Retrieve the {@link MethodHandle} that writes the last hop of the path
+     * @return {@link MethodHandle} of type {@code (C,T)void} that writes the path.
+     *  The handle throws {@link NullPointerException} when the root or any intermediate value is {@code null}.
+     *  {@code null} if the last hop is not writable
+     */
+    public MethodHandle getSetterHandle();
+
+    /**
+     * Retrieve the type of the last hop of the path
+     * @return type of the last hop of the path, boxed when primitive
+     */
+    public Class<T> getType();
+
+    /**
+     * Retrieve the state of the last hop of the path being writable
+     * @return state of the last hop of the path being writable
+     */
+    public boolean isWritable();
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+/**
+ * Implementation of {@link InvokePath}
+ *
+ * @param <C> Class type the path is navigated from
+ * @param <T> Type of the last hop of the path
+ */
+final class InvokePathImpl<C, T> implements InvokePath<C, T> {
+
+    private static final MethodType GENERIC_GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType GENERIC_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<C> rootType;
+    private final String path;
+    private final Class<T> type;
+    private final List<InvokeField> fields;
+    private final MethodHandle getterHandle;
+    private final MethodHandle setterHandle;
+    /** handles erased to Object for use with invokeExact */
+    private final MethodHandle genericGetter;
+    private final MethodHandle genericSetter;
+
+    InvokePathImpl(Class<C> rootType, String path, Class<T> type, List<InvokeField> fields,
+            MethodHandle getterHandle, MethodHandle setterHandle) {
+        this.rootType = rootType;
+        this.path = path;
+        this.type = type;
+        this.fields = fields;
+        this.getterHandle = getterHandle;
+        this.setterHandle = setterHandle;
+        this.genericGetter = getterHandle.asType(GENERIC_GETTER);
+        this.genericSetter = (setterHandle == null) ? null : setterHandle.asType(GENERIC_SETTER);
+    }
+
+    @Override
+    public void accept(C t, T u) {
+        if (genericSetter == null) {
+            throw new IllegalStateException("No setter available for " + this);
+        }
+        try {
+            genericSetter.invokeExact((Object) t, (Object) u);
+        } catch (Throwable ex) {
+            throw Utils.asException(ex, IllegalArgumentException.class, ()-> t + " and " + u + " are not valid values");
+        }
+    }
+
+    @Override
+    public T apply(C t) {
+        try {
+            return Utils.cast((Object) genericGetter.invokeExact((Object) t));
+        } catch (Throwable ex) {
+            throw Utils.asException(ex, IllegalArgumentException.class, ()-> t + " is not a valid value");
+        }
+    }
+
+    @Override
+    public List<InvokeField> getFields() {
+        return fields;
+    }
+
+    @Override
+    public MethodHandle getGetterHandle() {
+        return getterHandle;
+    }
+
+    @Override
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public Class<C> getRootType() {
+        return rootType;
+    }
+
+    @Override
+    public MethodHandle getSetterHandle() {
+        return setterHandle;
+    }
+
+    @Override
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    public boolean isWritable() {
+        return setterHandle != null;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(64).append(rootType.getName()).append(".").append(path)
+                .append("[type=").append(type.getName()).append("]").toString();
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Member;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Represents a JavaBean property and its access through the Invocation engine.
+ * A property is read through its {@code getX} or {@code isX} method and written through its {@code setX} method.
+ * When either method is absent, a field of the same name and type is utilized instead, if available.
+ *
+ * @param <C> Class type the property exists on
+ * @param <T> Type of property
+ * @since 1.2
+ */
+public interface InvokeProperty<C, T> extends Function<C, T>, BiConsumer<C, T> {
+
+    /**
+     * Retrieve the {@link Member} that reads the property
+     * @return {@link InvokeExecutable} or {@link InvokeField} that reads the property.
+     *  {@code null} if the property is not readable
+     */
+    public Member getGetter();
+
+    /**
+     * Retrieve the {@link MethodHandle} that reads the property
+     * @return {@link MethodHandle} of type {@code (C)T} that reads the property.
+     *  {@code null} if the property is not readable
+     */
+    public MethodHandle getGetterHandle();
+
+    /**
+     * Retrieve the name of the property
+     * @return name of the property
+     */
+    public String getName();
+
+    /**
+     * Retrieve the {@link Member} that writes the property
+     * @return {@link InvokeExecutable} or {@link InvokeField} that writes the property.
+     *  {@code null} if the property is not writable
+     */
+    public Member getSetter();
+
+    /**
+     * Retrieve the {@link MethodHandle} that writes the property
+     * @return {@link MethodHandle} of type {@code (C,T)void} that writes the property.
+     *  {@code null} if the property is not writable
+     */
+    public MethodHandle getSetterHandle();
+
+    /**
+     * Retrieve the type of the property
+     * @return type of the property
+     */
+    public Class<T> getType();
+
+    /**
+     * Retrieve the state of the property being readable
+     * @return state of the property being readable
+     */
+    public boolean isReadable();
+
+    /**
+     * Retrieve the state of the property being writable
+     * @return state of the property being writable
+     */
+    public boolean isWritable();
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Member;
+
+/**
+ * Implementation of {@link InvokeProperty}
+ *
+ * @param <C> Class type the property exists on
+ * @param <T> Type of property
+ */
+final class InvokePropertyImpl<C, T> implements InvokeProperty<C, T> {
+
+    private static final MethodType GENERIC_GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType GENERIC_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<C> beanType;
+    private final String name;
+    private final Class<T> type;
+    private final Member getter;
+    private final Member setter;
+    private final MethodHandle getterHandle;
+    private final MethodHandle setterHandle;
+    /** handles erased to Object for use with invokeExact */
+    private final MethodHandle genericGetter;
+    private final MethodHandle genericSetter;
+
+    InvokePropertyImpl(Class<C> beanType, String name, Class<T> type, Member getter, MethodHandle getterHandle,
+            Member setter, MethodHandle setterHandle) {
+        this.beanType = beanType;
+        this.name = name;
+        this.type = type;
+        this.getter = getter;
+        this.setter = setter;
+        this.getterHandle = (getterHandle == null) ? null
+                : getterHandle.asType(MethodType.methodType(type, beanType));
+        this.setterHandle = (setterHandle == null) ? null
+                : setterHandle.asType(MethodType.methodType(void.class, beanType, type));
+        this.genericGetter = (getterHandle == null) ? null : this.getterHandle.asType(GENERIC_GETTER);
+        this.genericSetter = (setterHandle == null) ? null : this.setterHandle.asType(GENERIC_SETTER);
+    }
+
+    @Override
+    public void accept(C t, T u) {
+        if (genericSetter == null) {
+            throw new IllegalStateException("No setter available for " + this);
+        }
+        try {
+            genericSetter.invokeExact((Object) t, (Object) u);
+        } catch (Throwable ex) {
+            throw Utils.asException(ex, IllegalArgumentException.class, ()-> t + " and " + u + " are not valid values");
+        }
+    }
+
+    @Override
+    public T apply(C t) {
+        if (genericGetter == null) {
+            throw new IllegalStateException("No getter available for " + this);
+        }
+        try {
+            return Utils.cast((Object) genericGetter.invokeExact((Object) t));
+        } catch (Throwable ex) {
+            throw Utils.asException(ex, IllegalArgumentException.class, ()-> t + " is not a valid value");
+        }
+    }
+
+    @Override
+    public Member getGetter() {
+        return getter;
+    }
+
+    @Override
+    public MethodHandle getGetterHandle() {
+        return getterHandle;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Member getSetter() {
+        return setter;
+    }
+
+    @Override
+    public MethodHandle getSetterHandle() {
+        return setterHandle;
+    }
+
+    @Override
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    public boolean isReadable() {
+        return getterHandle != null;
+    }
+
+    @Override
+    public boolean isWritable() {
+        return setterHandle != null;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(64).append(beanType.getName()).append(".").append(name)
+                .append("[type=").append(type.getName()).append("]").toString();
+    }
+}
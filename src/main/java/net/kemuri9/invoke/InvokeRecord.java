@@ -0,0 +1,93 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+
+/**
+ * Represents a Record type and its access through the Invocation engine
+ *
+ * @param <R> Type of Record
+ * @since 1.2
+ */
+public interface InvokeRecord<R> {
+
+    /**
+     * Retrieve the {@link InvokeExecutable} for the accessor of the named component
+     * @param <T> Type of component
+     * @param name name of the component
+     * @return {@link InvokeExecutable} that accesses the component
+     * @throws IllegalArgumentException When {@code name} is not a component of the record
+     */
+    public <T> InvokeExecutable<T> getAccessor(String name);
+
+    /**
+     * Retrieve the {@link InvokeExecutable}s for the accessors of all the components, in declaration order
+     * @return {@link List} of {@link InvokeExecutable}s that access the components
+     */
+    public List<InvokeExecutable<?>> getAccessors();
+
+    /**
+     * Retrieve the names of all the components, in declaration order
+     * @return {@link List} of component names
+     */
+    public List<String> getComponentNames();
+
+    /**
+     * Retrieve the values of all the components of a record, in declaration order
+     * @param record record instance to retrieve the component values of
+     * @return component values of {@code record}
+     * @throws IllegalArgumentException When {@code record} is {@code null}
+     */
+    public Object[] getComponents(R record);
+
+    /**
+     * Retrieve the {@link InvokeExecutable} for the canonical constructor
+     * @return {@link InvokeExecutable} that invokes the canonical constructor
+     */
+    public InvokeExecutable<R> getConstructor();
+
+    /**
+     * Retrieve the Record type
+     * @return Record type
+     */
+    public Class<R> getType();
+
+    /**
+     * Retrieve a {@link MethodHandle} that copies a record with some components replaced.
+     * The copy is made in a single invocation of the canonical constructor.
+     * The handle takes the record to copy followed by the new values of the components, in the order specified,
+     * and returns the copy.
+     * @param names names of the components to replace
+     * @return {@link MethodHandle} that copies a record with the specified components replaced
+     * @throws IllegalArgumentException When {@code names} is {@code null} or empty,
+     *  contains a name that is not a component of the record, or contains a name more than once
+     */
+    public MethodHandle getWither(String... names);
+
+    /**
+     * Copy a record with one component replaced
+     * @param record record to copy
+     * @param name name of the component to replace
+     * @param value new value of the component
+     * @return copy of {@code record} with {@code name} set to {@code value}
+     * @throws IllegalArgumentException When {@code record} is {@code null} or
+     *  {@code name} is not a component of the record
+     * @throws ClassCastException When {@code value} is not of the type of the component
+     */
+    public R with(R record, String name, Object value);
+}
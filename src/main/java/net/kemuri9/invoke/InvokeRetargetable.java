@@ -0,0 +1,48 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MutableCallSite;
+
+/**
+ * Represents an {@link InvokeExecutable} whose underlying target can be replaced while in use.
+ * The {@link #getHandle() handle} is the {@link MutableCallSite#dynamicInvoker() dynamic invoker}
+ * of a {@link MutableCallSite}, so callers that retain the handle observe re-targeting
+ * while still having the current target inlined by the JIT.
+ * The {@link java.lang.reflect.Member Member} attributes reflect the current target.
+ *
+ * @param <R> Type of return on the executable
+ * @since 1.2
+ */
+public interface InvokeRetargetable<R> extends InvokeExecutable<R> {
+
+    /**
+     * Retrieve the current target of execution
+     * @return current target {@link InvokeExecutable}
+     */
+    public InvokeExecutable<R> getTarget();
+
+    /**
+     * Replace the target of execution.
+     * The handle of {@code target} is adapted to the {@link #getType() type} of this executable,
+     * and once replaced the new target is synchronized to all threads.
+     * @param target {@link InvokeExecutable} to execute from now on
+     * @return {@link InvokeExecutable} that was previously the target
+     * @throws IllegalArgumentException When {@code target} is {@code null}
+     *  or its handle cannot be adapted to the {@link #getType() type} of this executable
+     */
+    public InvokeExecutable<R> retarget(InvokeExecutable<? extends R> target);
+}
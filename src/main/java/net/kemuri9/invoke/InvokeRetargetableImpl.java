@@ -0,0 +1,140 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Executable;
+import java.util.Arrays;
+
+/**
+ * Implementation of {@link InvokeRetargetable}
+ *
+ * @param <R> Type of return
+ */
+final class InvokeRetargetableImpl<R> implements InvokeRetargetable<R> {
+
+    private final MutableCallSite site;
+    private final MethodHandle invoker;
+    private volatile InvokeExecutable<R> target;
+    private final Lazy<ExecutableBatch> batch = new Lazy<>(()-> new ExecutableBatch(this));
+
+    InvokeRetargetableImpl(InvokeExecutable<R> target) {
+        MethodHandle handle = target.getHandle();
+        this.site = new MutableCallSite(handle);
+        MethodHandle invoker = site.dynamicInvoker();
+        if (handle.isVarargsCollector()) {
+            invoker = invoker.asVarargsCollector(handle.type().parameterType(handle.type().parameterCount() - 1));
+        }
+        this.invoker = invoker;
+        this.target = target;
+    }
+
+    @Override
+    public R apply(Object[] arguments) {
+        try {
+            Object ret = invoker.invokeWithArguments(arguments);
+            return Utils.cast(ret);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class,
+                    ()-> "failed to execute " + this + " with arguments " + Arrays.toString(arguments));
+        }
+    }
+
+    @Override
+    public InvokeRetargetable<R> asRetargetable() {
+        return this;
+    }
+
+    @Override
+    public Class<?> getDeclaringClass() {
+        return target.getDeclaringClass();
+    }
+
+    @Override
+    public Executable getExecutable(Lookup lookup) throws IllegalAccessException {
+        return target.getExecutable(lookup);
+    }
+
+    @Override
+    public MethodHandle getHandle() {
+        return invoker;
+    }
+
+    @Override
+    public int getModifiers() {
+        return target.getModifiers();
+    }
+
+    @Override
+    public String getName() {
+        return target.getName();
+    }
+
+    @Override
+    public InvokeExecutable<R> getTarget() {
+        return target;
+    }
+
+    @Override
+    public MethodType getType() {
+        return site.type();
+    }
+
+    @Override
+    public R invoke(Object... args) {
+        return apply(args);
+    }
+
+    @Override
+    public void invokeBatch(Object[] receivers, Object[] results) {
+        batch.get().invoke(receivers, results);
+    }
+
+    @Override
+    public void invokeBatchRows(Object[][] rows, Object[] results) {
+        batch.get().invokeRows(rows, results);
+    }
+
+    @Override
+    public boolean isSynthetic() {
+        return target.isSynthetic();
+    }
+
+    @Override
+    public synchronized InvokeExecutable<R> retarget(InvokeExecutable<? extends R> target) {
+        Utils.notNull(target, "target");
+        MethodHandle handle;
+        try {
+            handle = target.getHandle().asType(site.type());
+        } catch (WrongMethodTypeException ex) {
+            throw new IllegalArgumentException(target + " is not compatible with " + site.type(), ex);
+        }
+        InvokeExecutable<R> previous = this.target;
+        site.setTarget(handle);
+        this.target = Utils.cast(target);
+        MutableCallSite.syncAll(new MutableCallSite[] { site });
+        return previous;
+    }
+
+    @Override
+    public String toString() {
+        return target.toString();
+    }
+}
@@ -15,30 +15,126 @@
  */
 package net.kemuri9.invoke;
 
+import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
-import java.security.AccessController;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utilities for Invocation
  */
 public class InvokeUtils {
 
-    private static MethodHandles.Lookup LOOKUP_DEFAULT = null;
-    private static MethodHandles.Lookup LOOKUP_FULL_ACCESS = null;
+    private static volatile MethodHandles.Lookup LOOKUP_DEFAULT = null;
 
     static MethodHandles.Lookup defaultLookup(MethodHandles.Lookup lookup) {
         return (lookup == null) ? getDefaultLookup() : lookup;
     }
 
+    /**
+     * Retrieve an {@link InvokeDynamic} that accesses the members of objects by name through the specified lookup.
+     * Utilizing {@link #getFullAccessLookup()} allows access to all members.
+     * Resolutions are cached within the result, so it should be retained for repeated use.
+     * @param lookup {@link MethodHandles.Lookup} to perform the lookups with.
+     *  {@code null} indicates to use the default lookup
+     * @return {@link InvokeDynamic} accessing members through {@code lookup}
+     * @since 1.2
+     */
+    public static InvokeDynamic dynamic(MethodHandles.Lookup lookup) {
+        return new InvokeDynamicImpl(defaultLookup(lookup));
+    }
+
+    /**
+     * Retrieve the constructors of the specified {@link Class} that are annotated with the specified annotation type
+     * and accessible by the specified lookup.
+     * The annotated members of {@code type} are indexed on first retrieval, so further retrievals are inexpensive.
+     * @param <A> Type of {@link Annotation}
+     * @param lookup {@link MethodHandles.Lookup} to unreflect with.
+     *  {@code null} indicates to use the default lookup
+     * @param type {@link Class} to retrieve its annotated constructors
+     * @param annotationType type of {@link Annotation} to retrieve the annotated constructors of
+     * @return unmodifiable {@link List} of {@link InvokeAnnotated}s of the annotated constructors
+     * @throws IllegalArgumentException When {@code type} or {@code annotationType} is {@code null}
+     * @since 1.2
+     */
+    public static <A extends Annotation> List<InvokeAnnotated<A, InvokeExecutable<?>>> getAnnotatedConstructors(
+            MethodHandles.Lookup lookup, Class<?> type, Class<A> annotationType) {
+        Utils.notNull(type, "type");
+        Utils.notNull(annotationType, "annotationType");
+        return AnnotationIndex.getIndex(defaultLookup(lookup), type).getConstructors(annotationType);
+    }
+
+    /**
+     * Retrieve the fields of the specified {@link Class} and its parent types that are annotated with the
+     * specified annotation type and accessible by the specified lookup.
+     * The annotated members of {@code type} are indexed on first retrieval, so further retrievals are inexpensive.
+     * @param <A> Type of {@link Annotation}
+     * @param lookup {@link MethodHandles.Lookup} to unreflect with.
+     *  {@code null} indicates to use the default lookup
+     * @param type {@link Class} to retrieve its annotated fields
+     * @param annotationType type of {@link Annotation} to retrieve the annotated fields of
+     * @return unmodifiable {@link List} of {@link InvokeAnnotated}s of the annotated fields
+     * @throws IllegalArgumentException When {@code type} or {@code annotationType} is {@code null}
+     * @since 1.2
+     */
+    public static <A extends Annotation> List<InvokeAnnotated<A, InvokeField>> getAnnotatedFields(
+            MethodHandles.Lookup lookup, Class<?> type, Class<A> annotationType) {
+        Utils.notNull(type, "type");
+        Utils.notNull(annotationType, "annotationType");
+        return AnnotationIndex.getIndex(defaultLookup(lookup), type).getFields(annotationType);
+    }
+
+    /**
+     * Retrieve the methods of the specified {@link Class} and its parent types that are annotated with the
+     * specified annotation type and accessible by the specified lookup.
+     * The annotated members of {@code type} are indexed on first retrieval, so further retrievals are inexpensive.
+     * @param <A> Type of {@link Annotation}
+     * @param lookup {@link MethodHandles.Lookup} to unreflect with.
+     *  {@code null} indicates to use the default lookup
+     * @param type {@link Class} to retrieve its annotated methods
+     * @param annotationType type of {@link Annotation} to retrieve the annotated methods of
+     * @return unmodifiable {@link List} of {@link InvokeAnnotated}s of the annotated methods
+     * @throws IllegalArgumentException When {@code type} or {@code annotationType} is {@code null}
+     * @since 1.2
+     */
+    public static <A extends Annotation> List<InvokeAnnotated<A, InvokeExecutable<?>>> getAnnotatedMethods(
+            MethodHandles.Lookup lookup, Class<?> type, Class<A> annotationType) {
+        Utils.notNull(type, "type");
+        Utils.notNull(annotationType, "annotationType");
+        return AnnotationIndex.getIndex(defaultLookup(lookup), type).getMethods(annotationType);
+    }
+
+    /**
+     * Retrieve the {@link InvokeCodec} that encodes the instance fields of the specified {@link Class},
+     * including inherited fields, into a {@link java.nio.ByteBuffer} and decodes them back.
+     * Final fields are decoded through {@link #getFullAccessLookup()} when it is available.
+     * The result is cached, so repeated retrievals with the same access level are inexpensive.
+     * @param <C> Type of Class
+     * @param lookup {@link MethodHandles.Lookup} to perform the lookup with.
+     *  {@code null} indicates to use the default lookup
+     * @param type {@link Class} to encode the fields of
+     * @return {@link InvokeCodec} for {@code type}
+     * @throws IllegalArgumentException When {@code type} is {@code null},
+     *  or has a non-transient field whose type is not supported for encoding
+     * @throws UnsupportedOperationException When the operation is not supported
+     * @since 1.2
+     */
+    public static <C> InvokeCodec<C> getCodec(MethodHandles.Lookup lookup, Class<C> type) {
+        Utils.notNull(type, "type");
+        return CodecResolve.getCodec(defaultLookup(lookup), type);
+    }
+
     /**
      * Retrieve a {@link InvokeExecutable} for the specified {@link Constructor}
      * @param <T> Type to construct
@@ -52,7 +148,9 @@ public class InvokeUtils {
     public static <T> InvokeExecutable<T> getConstructor(MethodHandles.Lookup lookup, Constructor<T> ctor)
             throws IllegalAccessException {
         Utils.notNull(ctor, "ctor");
+        lookup = defaultLookup(lookup);
         MethodHandle handle = unreflect(lookup, ctor, UnreflectToMethodHandle.CONSTRUCTOR);
+        WarmupManifest.recordMember(lookup, ctor);
         return new InvokeExecutableImpl<>(ctor, handle);
     }
 
@@ -69,6 +167,7 @@ public class InvokeUtils {
     public static <T> List<InvokeExecutable<T>> getConstructors(MethodHandles.Lookup lookup, Class<T> type) {
         Utils.notNull(type, "type");
         lookup = defaultLookup(lookup);
+        WarmupManifest.recordConstructors(lookup, type);
         // try by reflection first, since a security manager is most often not in place to prevent the access
         try {
             return getConstructorsReflection(lookup, type);
@@ -81,13 +180,10 @@ public class InvokeUtils {
     private static <T> List<InvokeExecutable<T>> getConstructorsLookup(MethodHandles.Lookup lookup, Class<T> type) {
         List<Member> members = MemberNameAccess.getInstance().getConstructors(lookup, type);
         List<InvokeExecutable<T>> executables = new ArrayList<>(members.size());
-        LookupAccess access = LookupAccess.getInstance();
         for (Member member : members) {
-            try {
-                MethodHandle handle = access.resolveConstructor(lookup, member);
-                executables.add(new InvokeExecutableImpl<>(member, handle));
-            } catch (RuntimeException ex) {
-                // do not have access permissions, so skip it
+            InvokeExecutable<T> executable = resolveConstructorLookup(lookup, member);
+            if (executable != null) {
+                executables.add(executable);
             }
         }
         return executables;
@@ -98,7 +194,8 @@ public class InvokeUtils {
         List<InvokeExecutable<T>> executables = new ArrayList<>(constructors.length);
         for (Constructor<T> cons : constructors) {
             try {
-                executables.add(getConstructor(lookup, cons));
+                MethodHandle handle = UnreflectToMethodHandle.CONSTRUCTOR.unreflect(lookup, cons);
+                executables.add(new InvokeExecutableImpl<>(cons, handle));
             } catch (IllegalAccessException ex) {
                 // no access, so skip it
             }
@@ -113,11 +210,8 @@ public class InvokeUtils {
      * @see #setDefaultLookup(MethodHandles.Lookup)
      */
     public static MethodHandles.Lookup getDefaultLookup() {
-        MethodHandles.Lookup lookup = null;
-        synchronized(InvokeUtils.class) {
-            lookup = LOOKUP_DEFAULT;
-        }
-        return Utils.defaultValue(lookup, MethodHandles.publicLookup());
+        // volatile read rather than a lock, as this is retrieved whenever a lookup is not specified
+        return Utils.defaultValue(LOOKUP_DEFAULT, MethodHandles.publicLookup());
     }
 
     /**
@@ -133,7 +227,9 @@ public class InvokeUtils {
             throws IllegalAccessException {
         Utils.notNull(field, "field");
         lookup = defaultLookup(lookup);
-        return FieldResolve.getField(field, lookup);
+        InvokeField invokeField = FieldResolve.getField(field, lookup);
+        WarmupManifest.recordMember(lookup, field);
+        return invokeField;
     }
 
     /**
@@ -148,6 +244,7 @@ public class InvokeUtils {
     public static List<InvokeField> getFields(MethodHandles.Lookup lookup, Class<?> type, boolean includeInherited) {
         Utils.notNull(type, "type");
         lookup = defaultLookup(lookup);
+        WarmupManifest.recordFields(lookup, type, includeInherited);
         // try by reflection first, since a security manager is most often not in place to prevent the access
         try {
             return getFieldsReflection(lookup, type, includeInherited);
@@ -183,28 +280,46 @@ public class InvokeUtils {
     }
 
     /**
-     * Retrieve a {@link MethodHandles.Lookup} that has unrestricted (full) access to the JVM
+     * Retrieve a {@link MethodHandles.Lookup} that has unrestricted (full) access to the JVM.
+     * The outcome is retained, including when no {@link GetFullAccess} provider succeeds,
+     * until {@link #resetFullAccessLookup()} is called.
      * @return {@link MethodHandles.Lookup} with full unrestricted accesses
      * @throws UnsupportedOperationException When the unrestricted access Lookup cannot be retrieved
+     * @see #getFullAccessReport()
      */
     public static MethodHandles.Lookup getFullAccessLookup() throws UnsupportedOperationException {
-        if (LOOKUP_FULL_ACCESS != null) {
-            return LOOKUP_FULL_ACCESS;
-        }
-        MethodHandles.Lookup lookup = null;
-        for (Iterator<GetFullAccess> iter = VersionSupport.getLookups().iterator();
-                iter.hasNext() && (lookup == null || !Utils.isFullLookup(lookup));) {
-            try {
-                lookup = AccessController.doPrivileged(iter.next());
-            } catch (Throwable t) {
-                continue;
-            }
-        }
-        if (lookup == null || !Utils.isFullLookup(lookup)) {
-            throw new UnsupportedOperationException("Unable to attain full access MethodHandles.Lookup");
-        }
-        LOOKUP_FULL_ACCESS = lookup;
-        return lookup;
+        return FullAccessResolve.getLookup();
+    }
+
+    /**
+     * Retrieve a description of the last retrieval of the full access {@link MethodHandles.Lookup},
+     * naming each {@link GetFullAccess} provider attempted and the provider that succeeded or why each failed
+     * @return description of the last retrieval of the full access {@link MethodHandles.Lookup}
+     * @see #getFullAccessLookup()
+     * @since 1.2
+     */
+    public static String getFullAccessReport() {
+        return FullAccessResolve.getReport();
+    }
+
+    /**
+     * Retrieve the {@link InvokeMapper} that maps the instance fields of the specified {@link Class},
+     * including inherited fields, to and from a {@link Map} of field name to value.
+     * Final fields are written through {@link #getFullAccessLookup()} when it is available,
+     * and are otherwise only read.
+     * The result is cached, so repeated retrievals with the same access level are inexpensive.
+     * @param <C> Type of Class
+     * @param lookup {@link MethodHandles.Lookup} to perform the lookup with.
+     *  {@code null} indicates to use the default lookup
+     * @param type {@link Class} to map the fields of
+     * @return {@link InvokeMapper} for {@code type}
+     * @throws IllegalArgumentException When {@code type} is {@code null}
+     * @throws UnsupportedOperationException When the operation is not supported
+     * @since 1.2
+     */
+    public static <C> InvokeMapper<C> getMapper(MethodHandles.Lookup lookup, Class<C> type) {
+        Utils.notNull(type, "type");
+        return MapperResolve.getMapper(defaultLookup(lookup), type);
     }
 
     /**
@@ -220,7 +335,9 @@ public class InvokeUtils {
     public static <R> InvokeExecutable<R> getMethod(MethodHandles.Lookup lookup, Method method)
             throws IllegalAccessException {
         Utils.notNull(method, "method");
+        lookup = defaultLookup(lookup);
         MethodHandle handle = unreflect(lookup, method, UnreflectToMethodHandle.METHOD);
+        WarmupManifest.recordMember(lookup, method);
         return new InvokeExecutableImpl<>(method, handle);
     }
 
@@ -238,6 +355,7 @@ public class InvokeUtils {
             Class<?> type, boolean includeInherited) {
         Utils.notNull(type, "type");
         lookup = defaultLookup(lookup);
+        WarmupManifest.recordMethods(lookup, type, includeInherited);
         // try by reflection first, since a security manager is most often not in place to prevent the access
         try {
             return getMethodsReflection(lookup, type, includeInherited);
@@ -251,13 +369,10 @@ public class InvokeUtils {
             Class<?> type, boolean includeInherited) {
         List<Member> members = MemberNameAccess.getInstance().getMethods(lookup, type, includeInherited, null, null);
         List<InvokeExecutable<?>> executables = new ArrayList<>(members.size());
-        LookupAccess access = LookupAccess.getInstance();
         for (Member member : members) {
-            try {
-                MethodHandle handle = access.resolveMethod(lookup, member);
-                executables.add(new InvokeExecutableImpl<>(member, handle));
-            } catch (RuntimeException ex) {
-                // do not have access permissions, so skip it
+            InvokeExecutable<?> executable = resolveMethodLookup(lookup, member);
+            if (executable != null) {
+                executables.add(executable);
             }
         }
         return executables;
@@ -292,24 +407,94 @@ public class InvokeUtils {
     public static List<Member> getNestedTypes(MethodHandles.Lookup lookup, Class<?> type, boolean includeInherited) {
         Utils.notNull(type, "type");
 
-        // disable security mgr first as it can get in the way
-        return SecurityManagerDisabler.getInstance().withSecurityDisabled(()->
-            getNestedTypesInt(defaultLookup(lookup), type, includeInherited)
-        );
+        return NestedTypeResolve.getNestedTypes(defaultLookup(lookup), type, includeInherited);
     }
 
-    private static List<Member> getNestedTypesInt(MethodHandles.Lookup lookup, Class<?> type, boolean includeInherited) {
-        List<Class<?>> types = new ArrayList<>();
-
-        Utils.processClassHierarchy(type, includeInherited,
-                (checkType)-> Collections.addAll(types, checkType.getDeclaredClasses()));
-        // remove any inaccessible types
-        types.removeIf((t)-> !VersionSupport.isAccessible(lookup, t));
-        List<Member> members = new ArrayList<>(types.size());
-        for (Class<?> mType : types) {
-            members.add(new ClassMember(mType));
+    /**
+     * Retrieve the overloads of the method name on the specified {@link Class}, including inherited methods,
+     * accessible by the specified lookup. The overloads select the most specific method for the runtime argument
+     * types on each execution, memoizing the selections, so the result should be retained for repeated use.
+     * @param <R> Type of return of the overloads
+     * @param lookup {@link MethodHandles.Lookup} to perform the lookup with.
+     *  {@code null} indicates to use the default lookup
+     * @param type {@link Class} to retrieve the overloads of
+     * @param name name of the method
+     * @return {@link InvokeOverloads} representing the overloads of {@code name}
+     * @throws IllegalArgumentException When {@code type} or {@code name} is {@code null},
+     *  or no accessible method named {@code name} exists
+     * @throws UnsupportedOperationException When the operation is not supported
+     * @since 1.2
+     */
+    public static <R> InvokeOverloads<R> getOverloads(MethodHandles.Lookup lookup, Class<?> type, String name) {
+        Utils.notNull(type, "type");
+        Utils.notNull(name, "name");
+        InvokeOverloads<R> overloads = new InvokeOverloadsImpl<>(type, name, getMethods(lookup, type, true));
+        if (overloads.getCandidates().isEmpty()) {
+            throw new IllegalArgumentException(type + " has no accessible method " + name);
         }
-        return members;
+        return overloads;
+    }
+
+    /**
+     * Retrieve the JavaBean properties of the specified {@link Class} accessible by the specified lookup.
+     * Properties are formed from the public {@code getX}, {@code isX}, and {@code setX} methods, with fields of
+     * the same name and type utilized when either accessor is not available.
+     * The result is cached, so repeated retrievals with the same access level are inexpensive.
+     * @param <C> Type of Class
+     * @param lookup {@link MethodHandles.Lookup} to perform the lookup with.
+     *  {@code null} indicates to use the default lookup
+     * @param type {@link Class} to retrieve its properties
+     * @return unmodifiable {@link Map} of property name to {@link InvokeProperty}, ordered by name
+     * @throws IllegalArgumentException When {@code type} is {@code null}
+     * @throws UnsupportedOperationException When the operation is not supported
+     * @since 1.2
+     */
+    public static <C> Map<String, InvokeProperty<C, ?>> getProperties(MethodHandles.Lookup lookup, Class<C> type) {
+        Utils.notNull(type, "type");
+        return PropertyResolve.getProperties(defaultLookup(lookup), type);
+    }
+
+    /**
+     * Retrieve the {@link InvokeRecord} for the specified Record type.
+     * The result is cached, so repeated retrievals with the same access level are inexpensive.
+     * @param <R> Type of Record
+     * @param lookup {@link MethodHandles.Lookup} to unreflect the components and canonical constructor with.
+     *  {@code null} indicates to use the default lookup
+     * @param type Record type to retrieve the {@link InvokeRecord} for
+     * @return {@link InvokeRecord} for {@code type}
+     * @throws IllegalAccessException When {@code lookup} does not have access to the components or constructor
+     * @throws IllegalArgumentException When {@code type} is {@code null} or is not a Record
+     * @throws UnsupportedOperationException When the JVM does not support Records (prior to Java 16)
+     * @since 1.2
+     */
+    public static <R> InvokeRecord<R> getRecord(MethodHandles.Lookup lookup, Class<R> type)
+            throws IllegalAccessException {
+        Utils.notNull(type, "type");
+        return RecordResolve.getRecord(defaultLookup(lookup), type);
+    }
+
+    /**
+     * Retrieve the {@link InvokeInstantiator} that creates new instances of the specified {@link Class}.
+     * The no argument constructor accessible by the lookup is used when one exists,
+     * otherwise the instances are allocated through {@link #getFullAccessLookup()} without running any constructor,
+     * as is done when deserializing.
+     * The allocation does not check the access of {@code lookup}, so even {@link MethodHandles#publicLookup()}
+     * creates instances of types whose constructors it can not access.
+     * The result is cached, so repeated retrievals with the same access level are inexpensive.
+     * @param <T> Type to instantiate
+     * @param lookup {@link MethodHandles.Lookup} to perform the lookup with.
+     *  {@code null} indicates to use the default lookup
+     * @param type {@link Class} to instantiate
+     * @return {@link InvokeInstantiator} for {@code type}
+     * @throws IllegalArgumentException When {@code type} is {@code null}, or is abstract, an array, an enum,
+     *  or a primitive
+     * @throws UnsupportedOperationException When {@code type} has no accessible no argument constructor
+     *  and allocation without construction is not supported
+     * @since 1.2
+     */
+    public static <T> InvokeInstantiator<T> instantiator(MethodHandles.Lookup lookup, Class<T> type) {
+        Utils.notNull(type, "type");
+        return InstantiatorResolve.getInstantiator(defaultLookup(lookup), type);
     }
 
     /**
@@ -342,7 +527,8 @@ public class InvokeUtils {
      * @return result of the invocation. {@code null} if an error occurs in the invocation
      */
     public static <R> R invokeQuietly(MethodHandle handle, Object... args) {
-        if (handle == null) {
+        // arguments that are certain to fail are rejected without the failure being created and thrown
+        if (handle == null || !isInvocable(handle, args)) {
             return null;
         }
         try {
@@ -353,15 +539,197 @@ public class InvokeUtils {
         }
     }
 
+    /**
+     * Retrieve the {@link InvokePath} for a path of instance fields, such as {@code "order.customer.address.city"},
+     * navigated from the specified {@link Class} with the specified lookup.
+     * Each hop is resolved on the declared type of the preceding hop, and the hops are compiled into a single
+     * {@link MethodHandle} that results in {@code null} when the root or any intermediate value is {@code null}.
+     * The result is cached, so repeated retrievals with the same access level are inexpensive.
+     * @param <C> Type of Class
+     * @param <T> Type of the last hop of the path, boxed when primitive
+     * @param lookup {@link MethodHandles.Lookup} to perform the lookup with.
+     *  {@code null} indicates to use the default lookup
+     * @param root {@link Class} to navigate the path from
+     * @param path field names separated by {@code '.'}
+     * @return {@link InvokePath} representing {@code path}
+     * @throws IllegalArgumentException When {@code root} or {@code path} is {@code null},
+     *  or a hop of {@code path} is empty, primitive, or not an accessible instance field
+     * @throws UnsupportedOperationException When the operation is not supported
+     * @since 1.2
+     */
+    public static <C, T> InvokePath<C, T> path(MethodHandles.Lookup lookup, Class<C> root, String path) {
+        Utils.notNull(root, "root");
+        Utils.notNull(path, "path");
+        return PathResolve.getPath(defaultLookup(lookup), root, path);
+    }
+
+    /**
+     * Check that arguments are applicable to a {@link MethodHandle} without invoking it
+     * @param handle {@link MethodHandle} to check against
+     * @param args arguments to check
+     * @return {@code false} if invoking {@code handle} with {@code args} certainly fails,
+     *  otherwise {@code true}
+     */
+    private static boolean isInvocable(MethodHandle handle, Object[] args) {
+        if (handle.isVarargsCollector()) {
+            // the collector adapts the arity, so leave the checks to the invocation
+            return true;
+        }
+        MethodType type = handle.type();
+        if (args == null) {
+            // invoking with null arguments is invoking without arguments
+            return type.parameterCount() == 0;
+        }
+        if (args.length != type.parameterCount()) {
+            return false;
+        }
+        for (int idx = 0; idx < args.length; ++idx) {
+            Class<?> paramType = type.parameterType(idx);
+            Object arg = args[idx];
+            // primitives have conversions between the wrapper types, so only null is certain to fail
+            if ((arg == null) ? paramType.isPrimitive() : !paramType.isPrimitive() && !paramType.isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Discard the retained outcome of retrieving the full access {@link MethodHandles.Lookup},
+     * including the failures of the internal accesses that depend upon it,
+     * so that the next retrieval attempts the {@link GetFullAccess} providers again.
+     * This is useful once the cause of a failure, such as a restrictive {@link SecurityManager}, has been addressed.
+     * @see #getFullAccessLookup()
+     * @since 1.2
+     */
+    public static void resetFullAccessLookup() {
+        FullAccessResolve.reset();
+    }
+
+    /**
+     * Resolve a constructor through the lookup variation
+     * @param <T> Type to construct
+     * @param lookup {@link MethodHandles.Lookup} to resolve with
+     * @param member {@link Member} of the constructor
+     * @return {@link InvokeExecutable} of the constructor, {@code null} when {@code lookup} does not have access to it
+     */
+    private static <T> InvokeExecutable<T> resolveConstructorLookup(MethodHandles.Lookup lookup, Member member) {
+        LookupAccessVersion access = LookupAccess.getInstance();
+        try {
+            return new InvokeExecutableImpl<>(member, access.resolveConstructor(lookup, member));
+        } catch (RuntimeException ex) {
+            // do not have access permissions
+            return null;
+        }
+    }
+
+    /**
+     * Resolve a method through the lookup variation
+     * @param lookup {@link MethodHandles.Lookup} to resolve with
+     * @param member {@link Member} of the method
+     * @return {@link InvokeExecutable} of the method, {@code null} when {@code lookup} does not have access to it
+     */
+    private static InvokeExecutable<?> resolveMethodLookup(MethodHandles.Lookup lookup, Member member) {
+        LookupAccessVersion access = LookupAccess.getInstance();
+        try {
+            return new InvokeExecutableImpl<>(member, access.resolveMethod(lookup, member));
+        } catch (RuntimeException ex) {
+            // do not have access permissions
+            return null;
+        }
+    }
+
     /**
      * Set the default {@link MethodHandles.Lookup} to utilize when one is not specified
      * @param lookup {@link MethodHandles.Lookup} to utilize as a default.
      * @see #getDefaultLookup()
      */
     public static void setDefaultLookup(MethodHandles.Lookup lookup) {
-        synchronized(InvokeUtils.class) {
-            LOOKUP_DEFAULT = lookup;
-        }
+        LOOKUP_DEFAULT = lookup;
+    }
+
+    /**
+     * Set whether the exceptions that wrap checked exceptions thrown by executions and accesses fill in their
+     * stack trace. Filling in the stack trace is the majority of the cost of an exception, so disabling it benefits
+     * workloads where exceptions are expected, such as validation. The wrapped exception retains its stack trace.
+     * Stack traces are filled in by default.
+     * @param enabled state of wrapper exceptions filling in their stack trace
+     * @since 1.2
+     */
+    public static void setExceptionStackTraces(boolean enabled) {
+        Utils.WRAPPER_STACK_TRACES = enabled;
+    }
+
+    /**
+     * Stream the {@link InvokeExecutable}s representing constructors for the specified {@link Class} accessible by the
+     * specified lookup. Constructors are resolved as the stream is traversed,
+     * so short-circuiting operations such as {@link Stream#findFirst()} avoid resolving the remainder.
+     * @param <T> Type to construct
+     * @param lookup {@link MethodHandles.Lookup} to perform the lookup with.
+     *  {@code null} indicates to use the default lookup
+     * @param type {@link Class} to stream its constructors
+     * @return {@link Stream} of {@link InvokeExecutable}s representing the accessible constructors
+     * @throws IllegalArgumentException When {@code type} is {@code null}
+     * @since 1.2
+     */
+    public static <T> Stream<InvokeExecutable<T>> streamConstructors(MethodHandles.Lookup lookup, Class<T> type) {
+        Utils.notNull(type, "type");
+        MemberSpliterator.Path<InvokeExecutable<T>> reflection = new MemberSpliterator.Path<>(
+                (l, t)-> Arrays.asList(t.getDeclaredConstructors()), (l, c)-> new InvokeExecutableImpl<>(c,
+                        UnreflectToMethodHandle.CONSTRUCTOR.unreflect(l, (Constructor<?>) c)));
+        MemberSpliterator.Path<InvokeExecutable<T>> lookupPath = new MemberSpliterator.Path<>(
+                (l, t)-> MemberNameAccess.getInstance().getConstructors(l, t), InvokeUtils::resolveConstructorLookup);
+        return StreamSupport.stream(new MemberSpliterator<>(defaultLookup(lookup),
+                Collections.<Class<?>>singletonList(type), reflection, lookupPath), false);
+    }
+
+    /**
+     * Stream the {@link InvokeField}s for the specified {@link Class} accessible by the specified lookup.
+     * The class hierarchy is walked and fields are resolved as the stream is traversed,
+     * so short-circuiting operations such as {@link Stream#findFirst()} avoid resolving the remainder.
+     * @param lookup {@link MethodHandles.Lookup} to perform the lookup with.
+     *  {@code null} indicates to use the default lookup
+     * @param type {@link Class} to stream its fields
+     * @param includeInherited state of including fields from inherited (parent) types
+     * @return {@link Stream} of {@link InvokeField}s representing the accessible fields
+     * @throws IllegalArgumentException When {@code type} is {@code null}
+     * @since 1.2
+     */
+    public static Stream<InvokeField> streamFields(MethodHandles.Lookup lookup, Class<?> type,
+            boolean includeInherited) {
+        Utils.notNull(type, "type");
+        MemberSpliterator.Path<InvokeField> reflection = new MemberSpliterator.Path<>(
+                (l, t)-> Arrays.asList(t.getDeclaredFields()), (l, f)-> FieldResolve.getField((Field) f, l));
+        MemberSpliterator.Path<InvokeField> lookupPath = new MemberSpliterator.Path<>(
+                (l, t)-> MemberNameAccess.getInstance().getFields(l, t, false, null, null),
+                (l, f)-> FieldResolve.getField(l, new RefGetSet(f)));
+        return StreamSupport.stream(new MemberSpliterator<>(defaultLookup(lookup),
+                MemberSpliterator.getTypes(type, includeInherited), reflection, lookupPath), false);
+    }
+
+    /**
+     * Stream the {@link InvokeExecutable}s representing methods for the specified {@link Class} accessible by the
+     * specified lookup. The class hierarchy is walked and methods are resolved as the stream is traversed,
+     * so short-circuiting operations such as {@link Stream#findFirst()} avoid resolving the remainder.
+     * @param lookup {@link MethodHandles.Lookup} to perform the lookup with.
+     *  {@code null} indicates to use the default lookup
+     * @param type {@link Class} to stream its methods
+     * @param includeInherited state of including methods from inherited (parent) types
+     * @return {@link Stream} of {@link InvokeExecutable}s representing the accessible methods
+     * @throws IllegalArgumentException When {@code type} is {@code null}
+     * @since 1.2
+     */
+    public static Stream<InvokeExecutable<?>> streamMethods(MethodHandles.Lookup lookup, Class<?> type,
+            boolean includeInherited) {
+        Utils.notNull(type, "type");
+        MemberSpliterator.Path<InvokeExecutable<?>> reflection = new MemberSpliterator.Path<>(
+                (l, t)-> Arrays.asList(t.getDeclaredMethods()), (l, m)-> new InvokeExecutableImpl<>(m,
+                        UnreflectToMethodHandle.METHOD.unreflect(l, (Method) m)));
+        MemberSpliterator.Path<InvokeExecutable<?>> lookupPath = new MemberSpliterator.Path<>(
+                (l, t)-> MemberNameAccess.getInstance().getMethods(l, t, false, null, null),
+                InvokeUtils::resolveMethodLookup);
+        return StreamSupport.stream(new MemberSpliterator<>(defaultLookup(lookup),
+                MemberSpliterator.getTypes(type, includeInherited), reflection, lookupPath), false);
     }
 
     /**
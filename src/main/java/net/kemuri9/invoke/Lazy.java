@@ -0,0 +1,55 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link Supplier} that retrieves its value on first use and retains it, including {@code null} values
+ *
+ * @param <T> Type of value
+ */
+final class Lazy<T> implements Supplier<T> {
+
+    static <T> Lazy<T> of(T value) {
+        Lazy<T> lazy = new Lazy<>(null);
+        lazy.value = value;
+        lazy.retrieved = true;
+        return lazy;
+    }
+
+    private Supplier<? extends T> supplier;
+    private T value;
+    private volatile boolean retrieved;
+
+    Lazy(Supplier<? extends T> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public T get() {
+        if (!retrieved) {
+            synchronized (this) {
+                if (!retrieved) {
+                    value = supplier.get();
+                    supplier = null;
+                    retrieved = true;
+                }
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+/**
+ * Wrapper exceptions that do not fill in their stack trace,
+ * utilized for wrapping when stack traces are disabled through {@link InvokeUtils#setExceptionStackTraces(boolean)}.
+ * The wrapped cause retains its own stack trace.
+ */
+final class LightExceptions {
+
+    static final class IllegalArgument extends IllegalArgumentException {
+
+        private static final long serialVersionUID = 1L;
+
+        IllegalArgument(String message, Throwable cause) {
+            super(message, cause);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    static final class IllegalState extends IllegalStateException {
+
+        private static final long serialVersionUID = 1L;
+
+        IllegalState(String message, Throwable cause) {
+            super(message, cause);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    static final class Runtime extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        Runtime(String message, Throwable cause) {
+            super(message, cause);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    static final class UnsupportedOperation extends UnsupportedOperationException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedOperation(String message, Throwable cause) {
+            super(message, cause);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * Retrieve the wrapper type that does not fill in its stack trace
+     * @param type {@link RuntimeException} type to wrap with
+     * @return type extending {@code type} that does not fill in its stack trace.
+     *  {@code type} when there is no such type
+     */
+    static Class<? extends RuntimeException> getLightType(Class<? extends RuntimeException> type) {
+        if (type == RuntimeException.class) {
+            return Runtime.class;
+        } else if (type == IllegalArgumentException.class) {
+            return IllegalArgument.class;
+        } else if (type == IllegalStateException.class) {
+            return IllegalState.class;
+        } else if (type == UnsupportedOperationException.class) {
+            return UnsupportedOperation.class;
+        }
+        return type;
+    }
+
+    private LightExceptions() {}
+}
@@ -22,21 +22,38 @@ import java.lang.reflect.Member;
 
 abstract class LookupAccess {
 
-    private static LookupAccessVersion INSTANCE;
+    private static volatile LookupAccessVersion INSTANCE = null;
+    /** failure to initialize, retained so that it is not repeated on every retrieval */
+    private static Throwable FAILURE = null;
 
     static LookupAccessVersion getInstance() {
-        if (INSTANCE == null) {
-            synchronized(LookupAccess.class) {
-                if (INSTANCE == null) {
-                    try {
-                        INSTANCE = new LookupAccessVersion();
-                    } catch (Throwable t) {
-                        throw new UnsupportedOperationException("failed to initialize Lookup access", t);
-                    }
+        LookupAccessVersion instance = INSTANCE;
+        if (instance != null) {
+            return instance;
+        }
+        synchronized(LookupAccess.class) {
+            if (INSTANCE == null) {
+                if (FAILURE != null) {
+                    throw new UnsupportedOperationException("failed to initialize Lookup access", FAILURE);
+                }
+                try {
+                    INSTANCE = new LookupAccessVersion();
+                } catch (Throwable t) {
+                    FAILURE = t;
+                    throw new UnsupportedOperationException("failed to initialize Lookup access", t);
                 }
             }
+            return INSTANCE;
+        }
+    }
+
+    /**
+     * Discard a retained failure to initialize, so that the next retrieval attempts it again
+     */
+    static void reset() {
+        synchronized(LookupAccess.class) {
+            FAILURE = null;
         }
-        return INSTANCE;
     }
 
     protected final MethodHandle resolveConstructor;
@@ -45,19 +62,34 @@ abstract class LookupAccess {
     protected LookupAccess() throws Throwable {
         MethodHandles.Lookup lookup = InvokeUtils.getFullAccessLookup().in(MethodHandles.Lookup.class);
             Class<?> memberNameType = VersionSupport.getType(InvokeUtils.getFullAccessLookup(), Utils.TYPE_MEMBER_NAME);
+        // erase MemberName to Member so that the handles can be called with invokeExact
         resolveConstructor = lookup.findVirtual(MethodHandles.Lookup.class, "getDirectConstructorCommon",
-                MethodType.methodType(MethodHandle.class, Class.class, memberNameType, boolean.class));
+                MethodType.methodType(MethodHandle.class, Class.class, memberNameType, boolean.class))
+                .asType(MethodType.methodType(MethodHandle.class, MethodHandles.Lookup.class,
+                        Class.class, Member.class, boolean.class));
         resolveField = lookup.findVirtual(MethodHandles.Lookup.class, "getDirectFieldCommon",
-                MethodType.methodType(MethodHandle.class, byte.class, Class.class, memberNameType, boolean.class));
+                MethodType.methodType(MethodHandle.class, byte.class, Class.class, memberNameType, boolean.class))
+                .asType(MethodType.methodType(MethodHandle.class, MethodHandles.Lookup.class,
+                        byte.class, Class.class, Member.class, boolean.class));
     }
 
     MethodHandle resolveConstructor(MethodHandles.Lookup lookup, Member member) {
-        return InvokeUtils.invoke(resolveConstructor, lookup, member.getDeclaringClass(), member, false);
+        try {
+            return (MethodHandle) resolveConstructor.invokeExact(lookup, member.getDeclaringClass(),
+                    member, false);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
     }
 
     MethodHandle resolveField(MethodHandles.Lookup lookup, Member member) {
         byte refKind = MemberNameAccess.getInstance().getReferenceKind(member);
-        return InvokeUtils.invoke(resolveField, lookup, refKind, member.getDeclaringClass(), member, false);
+        try {
+            return (MethodHandle) resolveField.invokeExact(lookup, refKind,
+                    member.getDeclaringClass(), member, false);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
     }
 
     abstract MethodHandle resolveMethod(MethodHandles.Lookup lookup, Member member);
@@ -30,13 +30,19 @@ final class LookupAccessVersion extends LookupAccess {
         Class<?> memberNameType = VersionSupport.getType(InvokeUtils.getFullAccessLookup(), Utils.TYPE_MEMBER_NAME);
         resolveMethod = lookup.findVirtual(MethodHandles.Lookup.class, "getDirectMethodCommon",
                 MethodType.methodType(MethodHandle.class, byte.class, Class.class, memberNameType,
-                        boolean.class, boolean.class, Class.class));
+                        boolean.class, boolean.class, Class.class))
+                .asType(MethodType.methodType(MethodHandle.class, MethodHandles.Lookup.class, byte.class,
+                        Class.class, Member.class, boolean.class, boolean.class, Class.class));
     }
 
     @Override
     MethodHandle resolveMethod(MethodHandles.Lookup lookup, Member member) {
         byte refKind = MemberNameAccess.getInstance().getReferenceKind(member);
-        return InvokeUtils.invoke(resolveMethod, lookup, refKind, member.getDeclaringClass(),
-                member, false, true, Utils.getLookupType(lookup));
+        try {
+            return (MethodHandle) resolveMethod.invokeExact(lookup, refKind, member.getDeclaringClass(),
+                    member, false, true, Utils.getLookupType(lookup));
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
     }
 }
@@ -0,0 +1,181 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Access capabilities of a {@link MethodHandles.Lookup}.
+ *
+ * Descriptors compare equal when their lookups resolve the same members, so they serve as keys of cached resolutions.
+ * The lookup classes are referenced weakly, so that cached resolutions do not retain their class loaders.
+ */
+final class LookupDescriptor {
+
+    /** {@code Lookup.previousLookupClass}, which is only present on Java 14+ */
+    private static final MethodHandle PREVIOUS_LOOKUP_CLASS;
+
+    static {
+        MethodHandle handle = null;
+        try {
+            handle = MethodHandles.publicLookup().findVirtual(MethodHandles.Lookup.class, "previousLookupClass",
+                    MethodType.methodType(Class.class));
+        } catch (Throwable t) {}
+        PREVIOUS_LOOKUP_CLASS = handle;
+    }
+
+    /** descriptor of the full access lookup, which is not restricted */
+    private static final LookupDescriptor FULL = new LookupDescriptor(true, null, -1, null);
+
+    /** descriptors of lookups without a previous lookup class, by lookup class and then by lookup modes */
+    private static final ClassValue<ConcurrentMap<Integer, LookupDescriptor>> DESCRIPTORS =
+            new ClassValue<ConcurrentMap<Integer, LookupDescriptor>>() {
+        @Override
+        protected ConcurrentMap<Integer, LookupDescriptor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>(4);
+        }
+    };
+
+    static LookupDescriptor of(MethodHandles.Lookup lookup) {
+        if (Utils.isFullLookup(lookup)) {
+            return FULL;
+        }
+        Class<?> type = lookup.lookupClass();
+        int modes = lookup.lookupModes();
+        Class<?> previousType = getPreviousLookupClass(lookup);
+        if (previousType != null) {
+            // teleported lookups are uncommon, so their descriptors are not retained
+            return new LookupDescriptor(false, type, modes, previousType);
+        }
+        ConcurrentMap<Integer, LookupDescriptor> descriptors = DESCRIPTORS.get(type);
+        LookupDescriptor descriptor = descriptors.get(modes);
+        if (descriptor == null) {
+            descriptor = new LookupDescriptor(false, type, modes, null);
+            LookupDescriptor existing = descriptors.putIfAbsent(modes, descriptor);
+            descriptor = (existing == null) ? descriptor : existing;
+        }
+        return descriptor;
+    }
+
+    private static Class<?> getPreviousLookupClass(MethodHandles.Lookup lookup) {
+        if (PREVIOUS_LOOKUP_CLASS == null) {
+            return null;
+        }
+        try {
+            return (Class<?>) PREVIOUS_LOOKUP_CLASS.invokeExact(lookup);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    private static WeakReference<Class<?>> reference(Class<?> type) {
+        return (type == null) ? null : new WeakReference<>(type);
+    }
+
+    private static Class<?> get(WeakReference<Class<?>> reference) {
+        return (reference == null) ? null : reference.get();
+    }
+
+    private static String getName(WeakReference<Class<?>> reference) {
+        Class<?> type = get(reference);
+        return (type == null) ? "unloaded" : type.getName();
+    }
+
+    private final boolean full;
+    private final WeakReference<Class<?>> type;
+    private final int modes;
+    private final WeakReference<Class<?>> previousType;
+    private final int hash;
+
+    private LookupDescriptor(boolean full, Class<?> type, int modes, Class<?> previousType) {
+        this.full = full;
+        this.type = reference(type);
+        this.modes = modes;
+        this.previousType = reference(previousType);
+        this.hash = (31 * Objects.hashCode(type) + modes) * 31 + Objects.hashCode(previousType);
+    }
+
+    /**
+     * Retrieve the lookup class that restricts access
+     * @return lookup class. {@code null} when the access is not restricted
+     */
+    Class<?> getLookupType() {
+        return get(type);
+    }
+
+    /**
+     * Retrieve the lookup modes that restrict access
+     * @return lookup modes. {@code -1} when the access is not restricted
+     */
+    int getLookupModes() {
+        return modes;
+    }
+
+    /**
+     * Retrieve the lookup class that was teleported from
+     * @return previous lookup class. {@code null} when there is none or the runtime does not support it
+     */
+    Class<?> getPreviousLookupType() {
+        return get(previousType);
+    }
+
+    /**
+     * Retrieve if the access is not restricted
+     * @return state of the access being unrestricted
+     */
+    boolean isFull() {
+        return full;
+    }
+
+    /**
+     * Retrieve if a lookup class has been unloaded, in which case no lookup is described by this anymore
+     * @return state of a lookup class being unloaded
+     */
+    boolean isUnloaded() {
+        return (type != null && type.get() == null) || (previousType != null && previousType.get() == null);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LookupDescriptor)) {
+            return false;
+        }
+        LookupDescriptor other = (LookupDescriptor) obj;
+        // unloaded descriptors do not equal any other, as their lookup classes cannot be compared
+        return full == other.full && modes == other.modes && !isUnloaded()
+                && get(type) == other.getLookupType() && get(previousType) == other.getPreviousLookupType();
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return full ? "full access" : (getName(type) + '/' + modes
+                + ((previousType == null) ? "" : ("/" + getName(previousType))));
+    }
+}
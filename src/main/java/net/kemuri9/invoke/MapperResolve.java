@@ -0,0 +1,71 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+final class MapperResolve {
+
+    private static final AccessCache<InvokeMapper<?>> MAPPERS = new AccessCache<>();
+
+    static <C> InvokeMapper<C> getMapper(Lookup lookup, Class<C> type) {
+        InvokeMapper<?> mapper = MAPPERS.get(lookup, type);
+        if (mapper == null) {
+            mapper = MAPPERS.put(lookup, type, newMapper(lookup, type));
+        }
+        return Utils.cast(mapper);
+    }
+
+    /**
+     * Retrieve the setter of a final field through the full access lookup
+     * @param field {@link InvokeField} of the final field
+     * @return {@link MethodHandle} setting the field. {@code null} when full access is not available
+     */
+    static MethodHandle getFinalSetter(InvokeField field) {
+        try {
+            Lookup full = InvokeUtils.getFullAccessLookup();
+            return InvokeUtils.getField(full, field.getField(full)).getSetterHandle();
+        } catch (IllegalAccessException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static <C> InvokeMapper<C> newMapper(Lookup lookup, Class<C> type) {
+        List<InvokeField> fields = new ArrayList<>();
+        List<MethodHandle> setters = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        // fields are listed with the most derived types first, so hidden fields are not mapped
+        for (InvokeField field : InvokeUtils.getFields(lookup, type, true)) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || field.isSynthetic() || !names.add(field.getName())) {
+                continue;
+            }
+            // the setter of a final field is only functional with full access
+            MethodHandle setter = Modifier.isFinal(modifiers) ? getFinalSetter(field) : field.getSetterHandle();
+            fields.add(field);
+            setters.add(setter);
+        }
+        return new InvokeMapperImpl<>(type, fields, setters);
+    }
+
+    private MapperResolve() {}
+}
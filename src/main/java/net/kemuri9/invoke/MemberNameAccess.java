@@ -47,13 +47,11 @@ abstract class MemberNameAccess {
         REF_invokeInterface(9),
         REF_LIMIT(10);
 
+        /** kinds indexed by their byte value, as {@link #values()} clones on every call */
+        private static final ReferenceKind[] KINDS = values();
+
         static ReferenceKind ofByte(byte kind) {
-            for (ReferenceKind refKind : values()) {
-                if (refKind.kind == kind) {
-                    return refKind;
-                }
-            }
-            return REF_NONE;
+            return (kind >= 0 && kind < KINDS.length) ? KINDS[kind] : REF_NONE;
         }
 
         public final byte kind;
@@ -96,21 +94,38 @@ abstract class MemberNameAccess {
         }
     }
 
-    private static MemberNameAccessVersion INSTANCE = null;
+    private static volatile MemberNameAccessVersion INSTANCE = null;
+    /** failure to initialize, retained so that it is not repeated on every retrieval */
+    private static Throwable FAILURE = null;
 
     static MemberNameAccessVersion getInstance() {
-        if (INSTANCE == null) {
-            synchronized(MemberNameAccess.class) {
-                if (INSTANCE == null) {
-                    try {
-                        INSTANCE = new MemberNameAccessVersion();
-                    } catch (Throwable ex) {
-                        throw new UnsupportedOperationException("failed to setup MemberNameAccess", ex);
-                    }
+        MemberNameAccessVersion instance = INSTANCE;
+        if (instance != null) {
+            return instance;
+        }
+        synchronized(MemberNameAccess.class) {
+            if (INSTANCE == null) {
+                if (FAILURE != null) {
+                    throw new UnsupportedOperationException("failed to setup MemberNameAccess", FAILURE);
+                }
+                try {
+                    INSTANCE = new MemberNameAccessVersion();
+                } catch (Throwable ex) {
+                    FAILURE = ex;
+                    throw new UnsupportedOperationException("failed to setup MemberNameAccess", ex);
                 }
             }
+            return INSTANCE;
+        }
+    }
+
+    /**
+     * Discard a retained failure to initialize, so that the next retrieval attempts it again
+     */
+    static void reset() {
+        synchronized(MemberNameAccess.class) {
+            FAILURE = null;
         }
-        return INSTANCE;
     }
 
     protected final Object factory;
@@ -136,26 +151,40 @@ abstract class MemberNameAccess {
         Class<?> memberNameType = VersionSupport.getType(fullLookup, Utils.TYPE_MEMBER_NAME);
         factory = fullLookup.in(MethodHandles.class).findStaticGetter(MethodHandles.class, "IMPL_NAMES", factoryType)
                 .invoke();
+        /* all handles are erased to types visible here (Object for the factory, Member for MemberName)
+         * so that they can be called with invokeExact, which avoids the boxing and argument arrays
+         * of invokeWithArguments */
         Lookup lookup = fullLookup.in(factoryType);
         getConstructors = lookup.findVirtual(factoryType, "getConstructors",
-                MethodType.methodType(List.class, Class.class, Class.class));
+                MethodType.methodType(List.class, Class.class, Class.class))
+                .asType(MethodType.methodType(List.class, Object.class, Class.class, Class.class));
         getFields = lookup.findVirtual(factoryType, "getFields", MethodType.methodType(List.class, Class.class,
-                boolean.class, String.class, Class.class, Class.class));
+                boolean.class, String.class, Class.class, Class.class))
+                .asType(MethodType.methodType(List.class, Object.class, Class.class,
+                        boolean.class, String.class, Class.class, Class.class));
         getMethods = lookup.findVirtual(factoryType, "getMethods", MethodType.methodType(List.class, Class.class,
-                boolean.class, String.class, MethodType.class, Class.class));
+                boolean.class, String.class, MethodType.class, Class.class))
+                .asType(MethodType.methodType(List.class, Object.class, Class.class,
+                        boolean.class, String.class, MethodType.class, Class.class));
 
         lookup = fullLookup.in(memberNameType);
-        getReferenceKind = lookup.findVirtual(memberNameType, "getReferenceKind", MethodType.methodType(byte.class));
-        getType = lookup.findVirtual(memberNameType, "getType", MethodType.methodType(Object.class));
-        isResolved = lookup.findVirtual(memberNameType, "isResolved", MethodType.methodType(boolean.class));
+        getReferenceKind = lookup.findVirtual(memberNameType, "getReferenceKind", MethodType.methodType(byte.class))
+                .asType(MethodType.methodType(byte.class, Member.class));
+        getType = lookup.findVirtual(memberNameType, "getType", MethodType.methodType(Object.class))
+                .asType(MethodType.methodType(Object.class, Member.class));
+        isResolved = lookup.findVirtual(memberNameType, "isResolved", MethodType.methodType(boolean.class))
+                .asType(MethodType.methodType(boolean.class, Member.class));
         newMemberField = lookup.findConstructor(memberNameType,
-                MethodType.methodType(void.class, Field.class, boolean.class));
+                MethodType.methodType(void.class, Field.class, boolean.class))
+                .asType(MethodType.methodType(Member.class, Field.class, boolean.class));
         newMemberFieldParts = lookup.findConstructor(memberNameType,
-                MethodType.methodType(void.class, Class.class, String.class, Class.class, byte.class));
+                MethodType.methodType(void.class, Class.class, String.class, Class.class, byte.class))
+                .asType(MethodType.methodType(Member.class, Class.class, String.class, Class.class, byte.class));
 
         Class<?> handleNatives = VersionSupport.getType(fullLookup, "java.lang.invoke.MethodHandleNatives");
         expand = fullLookup.in(handleNatives).findStatic(handleNatives, "expand",
-                MethodType.methodType(void.class, memberNameType));
+                MethodType.methodType(void.class, memberNameType))
+                .asType(MethodType.methodType(void.class, Member.class));
     }
 
     /**
@@ -163,11 +192,20 @@ abstract class MemberNameAccess {
      * @param member {@link Member} to expand its data
      */
     void expand(Member member) {
-        InvokeUtils.invoke(expand, member);
+        try {
+            expand.invokeExact(member);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
     }
 
     List<Member> getConstructors(MethodHandles.Lookup lookup, Class<?> type) {
-        List<Member> members = InvokeUtils.invoke(getConstructors, factory, type, Utils.getLookupType(lookup));
+        List<Member> members;
+        try {
+            members = Utils.cast((List<?>) getConstructors.invokeExact(factory, type, Utils.getLookupType(lookup)));
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
         return resolve(lookup, members);
     }
 
@@ -177,8 +215,13 @@ abstract class MemberNameAccess {
         List<Member> members = new ArrayList<>(32);
         Class<?> lookupType = Utils.getLookupType(lookup);
         Utils.processClassHierarchy(type, withSuper, (checkType)-> {
-            List<Member> typeMems = InvokeUtils.invoke(getFields, factory, checkType, false, name, fieldType, lookupType);
-            members.addAll(typeMems);
+            try {
+                List<Member> typeMems = Utils.cast((List<?>) getFields.invokeExact(factory,
+                        checkType, false, name, fieldType, lookupType));
+                members.addAll(typeMems);
+            } catch (Throwable t) {
+                throw Utils.asException(t, RuntimeException.class, "invocation failed");
+            }
         });
         return resolve(lookup, members);
     }
@@ -189,8 +232,13 @@ abstract class MemberNameAccess {
         List<Member> members = new ArrayList<>(32);
         Class<?> lookupType = Utils.getLookupType(lookup);
         Utils.processClassHierarchy(type, withSuper, (checkType)-> {
-            List<Member> typeMems = InvokeUtils.invoke(getMethods, factory, checkType, false, name, methodType, lookupType);
-            members.addAll(typeMems);
+            try {
+                List<Member> typeMems = Utils.cast((List<?>) getMethods.invokeExact(factory,
+                        checkType, false, name, methodType, lookupType));
+                members.addAll(typeMems);
+            } catch (Throwable t) {
+                throw Utils.asException(t, RuntimeException.class, "invocation failed");
+            }
         });
         return resolve(lookup, members);
     }
@@ -201,24 +249,45 @@ abstract class MemberNameAccess {
      * @return reference kind of the MemberName
      */
     byte getReferenceKind(Member member) {
-        return InvokeUtils.<Byte>invoke(getReferenceKind, member);
+        try {
+            return (byte) getReferenceKind.invokeExact(member);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
     }
 
     Object getType(Member member) {
-        return InvokeUtils.invoke(getType, member);
+        try {
+            return (Object) getType.invokeExact(member);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
     }
 
     boolean isResolved(Member member) {
-        return InvokeUtils.<Boolean>invoke(isResolved, member);
+        try {
+            return (boolean) isResolved.invokeExact(member);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
     }
 
     Member newMember(Class<?> defClass, String name, Class<?> fieldType, byte refKind) {
-        Member member = InvokeUtils.invoke(newMemberFieldParts, defClass, name, fieldType, refKind);
+        Member member;
+        try {
+            member = (Member) newMemberFieldParts.invokeExact(defClass, name, fieldType, refKind);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
         return resolve(member, InvokeUtils.getFullAccessLookup());
     }
 
     Member newMember(Field field, boolean isSetter) {
-        return InvokeUtils.invoke(newMemberField, field, isSetter);
+        try {
+            return (Member) newMemberField.invokeExact(field, isSetter);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
     }
 
     protected abstract Member resolve(Member member, MethodHandles.Lookup lookup);
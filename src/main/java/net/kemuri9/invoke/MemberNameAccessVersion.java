@@ -32,7 +32,8 @@ final class MemberNameAccessVersion extends MemberNameAccess {
         Class<?> memberNameType = VersionSupport.getType(fullLookup, Utils.TYPE_MEMBER_NAME);
         Lookup lookup = fullLookup.in(factoryType);
         resolve = lookup.findVirtual(factoryType, "resolve",
-                MethodType.methodType(memberNameType, byte.class, memberNameType, Class.class));
+                MethodType.methodType(memberNameType, byte.class, memberNameType, Class.class))
+                .asType(MethodType.methodType(Member.class, Object.class, byte.class, Member.class, Class.class));
     }
 
     @Override
@@ -59,6 +60,11 @@ final class MemberNameAccessVersion extends MemberNameAccess {
                 return newMember(field, kind.isSetter());
             }
         }
-        return InvokeUtils.invoke(resolve, factory, kind.kind, member, Utils.getLookupType(lookup));
+        try {
+            return (Member) resolve.invokeExact(factory, kind.kind, member,
+                    Utils.getLookupType(lookup));
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
     }
 }
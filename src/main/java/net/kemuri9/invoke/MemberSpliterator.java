@@ -0,0 +1,175 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * {@link Spliterator} over the members of a class hierarchy,
+ * reading the declared members of each type and resolving each member only as it is traversed.
+ * Splitting divides the remaining types of the hierarchy, then the remaining members of the current type.
+ *
+ * @param <T> Type of resolved member
+ */
+final class MemberSpliterator<T> implements Spliterator<T> {
+
+    @FunctionalInterface
+    static interface Resolver<T> {
+        /**
+         * Resolve a member
+         * @param lookup {@link MethodHandles.Lookup} to resolve with
+         * @param member {@link Member} to resolve
+         * @return resolved member, {@code null} when {@code lookup} does not have access to it
+         * @throws IllegalAccessException When {@code lookup} does not have access to {@code member}
+         */
+        T resolve(MethodHandles.Lookup lookup, Member member) throws IllegalAccessException;
+    }
+
+    /**
+     * Means of reading and resolving the declared members of a type,
+     * either through reflection or through the lookup variation when a security manager blocks reflection
+     *
+     * @param <T> Type of resolved member
+     */
+    static final class Path<T> {
+
+        private final BiFunction<MethodHandles.Lookup, Class<?>, List<? extends Member>> declared;
+        private final Resolver<? extends T> resolver;
+
+        Path(BiFunction<MethodHandles.Lookup, Class<?>, List<? extends Member>> declared,
+                Resolver<? extends T> resolver) {
+            this.declared = declared;
+            this.resolver = resolver;
+        }
+    }
+
+    static List<Class<?>> getTypes(Class<?> type, boolean includeInherited) {
+        List<Class<?>> types = new ArrayList<>();
+        Utils.processClassHierarchy(type, includeInherited, types::add);
+        return types;
+    }
+
+    private final MethodHandles.Lookup lookup;
+    private final List<Class<?>> types;
+    private int typeIndex;
+    private final int typeFence;
+    /** path in use, which switches to {@code fallback} once a security manager blocks it */
+    private Path<? extends T> path;
+    private final Path<? extends T> fallback;
+    private List<? extends Member> members;
+    private int memberIndex;
+    private int memberFence;
+
+    MemberSpliterator(MethodHandles.Lookup lookup, List<Class<?>> types, Path<? extends T> path,
+            Path<? extends T> fallback) {
+        this(lookup, types, 0, types.size(), path, fallback);
+    }
+
+    private MemberSpliterator(MethodHandles.Lookup lookup, List<Class<?>> types, int typeIndex, int typeFence,
+            Path<? extends T> path, Path<? extends T> fallback) {
+        this.lookup = lookup;
+        this.types = types;
+        this.typeIndex = typeIndex;
+        this.typeFence = typeFence;
+        this.path = path;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+
+    @Override
+    public long estimateSize() {
+        // members of types not yet read are unknown, so estimate from the current type
+        long remaining = (members == null) ? 0 : memberFence - memberIndex;
+        return remaining + (typeFence - typeIndex) * Math.max(remaining, 8);
+    }
+
+    private List<? extends Member> getDeclared(Class<?> type) {
+        try {
+            return path.declared.apply(lookup, type);
+        } catch (SecurityException ex) {
+            if (path == fallback) {
+                throw ex;
+            }
+            // SM blocked access, so continue by the lookup variation
+            path = fallback;
+            return path.declared.apply(lookup, type);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (true) {
+            while (members != null && memberIndex < memberFence) {
+                Member member = members.get(memberIndex++);
+                T resolved;
+                try {
+                    resolved = path.resolver.resolve(lookup, member);
+                } catch (IllegalAccessException ex) {
+                    // no access, so skip it
+                    continue;
+                }
+                if (resolved != null) {
+                    action.accept(resolved);
+                    return true;
+                }
+            }
+            if (typeIndex >= typeFence) {
+                return false;
+            }
+            members = getDeclared(types.get(typeIndex++));
+            memberIndex = 0;
+            memberFence = members.size();
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int typesRemaining = typeFence - typeIndex;
+        if (typesRemaining >= 2) {
+            int mid = typeIndex + typesRemaining / 2;
+            MemberSpliterator<T> prefix = new MemberSpliterator<>(lookup, types, typeIndex, mid, path, fallback);
+            // the prefix must precede this, so any members of the current type go with it
+            prefix.members = members;
+            prefix.memberIndex = memberIndex;
+            prefix.memberFence = memberFence;
+            members = null;
+            typeIndex = mid;
+            return prefix;
+        }
+        int membersRemaining = (members == null) ? 0 : memberFence - memberIndex;
+        if (typesRemaining == 0 && membersRemaining >= 2) {
+            int mid = memberIndex + membersRemaining / 2;
+            MemberSpliterator<T> prefix = new MemberSpliterator<>(lookup, types, typeFence, typeFence,
+                    path, fallback);
+            prefix.members = members;
+            prefix.memberIndex = memberIndex;
+            prefix.memberFence = mid;
+            memberIndex = mid;
+            return prefix;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class NestedTypeResolve {
+
+    private static final ClassMember[] NONE = new ClassMember[0];
+
+    /** nested types declared by each type, regardless of accessibility */
+    private static final ClassValue<ClassMember[]> DECLARED = new ClassValue<ClassMember[]>() {
+        @Override
+        protected ClassMember[] computeValue(Class<?> type) {
+            Class<?>[] declared = type.getDeclaredClasses();
+            if (declared.length == 0) {
+                return NONE;
+            }
+            ClassMember[] members = new ClassMember[declared.length];
+            for (int idx = 0; idx < declared.length; ++idx) {
+                members[idx] = new ClassMember(declared[idx]);
+            }
+            return members;
+        }
+    };
+
+    /** accessibility of each nested type to the access level of a lookup */
+    private static final AccessCache<Boolean> ACCESSIBLE = new AccessCache<>();
+    private static final AccessCache<Member[]> DECLARED_ACCESSIBLE = new AccessCache<>();
+    private static final AccessCache<Member[]> INHERITED_ACCESSIBLE = new AccessCache<>();
+
+    static List<Member> getNestedTypes(Lookup lookup, Class<?> type, boolean includeInherited) {
+        AccessCache<Member[]> cache = includeInherited ? INHERITED_ACCESSIBLE : DECLARED_ACCESSIBLE;
+        Member[] members = cache.get(lookup, type);
+        if (members == null) {
+            // disable security mgr first as it can get in the way
+            Member[] resolved = SecurityManagerDisabler.getInstance().withSecurityDisabled(()->
+                resolve(lookup, type, includeInherited)
+            );
+            members = cache.put(lookup, type, resolved);
+        }
+        // the listing is mutable to callers, so it is not shared
+        return new ArrayList<>(Arrays.asList(members));
+    }
+
+    private static boolean isAccessible(Lookup lookup, Class<?> nestedType) {
+        Boolean accessible = ACCESSIBLE.get(lookup, nestedType);
+        if (accessible == null) {
+            accessible = ACCESSIBLE.put(lookup, nestedType, VersionSupport.isAccessible(lookup, nestedType));
+        }
+        return accessible;
+    }
+
+    private static Member[] resolve(Lookup lookup, Class<?> type, boolean includeInherited) {
+        List<Member> members = new ArrayList<>();
+        Utils.processClassHierarchy(type, includeInherited, (checkType)-> {
+            for (ClassMember member : DECLARED.get(checkType)) {
+                // skip any inaccessible types
+                if (isAccessible(lookup, member.clazz)) {
+                    members.add(member);
+                }
+            }
+        });
+        return members.toArray(new Member[members.size()]);
+    }
+
+    private NestedTypeResolve() {}
+}
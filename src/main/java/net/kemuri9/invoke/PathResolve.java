@@ -0,0 +1,120 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+final class PathResolve {
+
+    private static final AccessCache<ConcurrentMap<String, InvokePath<?, ?>>> PATHS = new AccessCache<>();
+
+    private static final MethodHandle IS_NULL;
+
+    static {
+        try {
+            IS_NULL = MethodHandles.publicLookup().findStatic(Objects.class, "isNull",
+                    MethodType.methodType(boolean.class, Object.class));
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    static InvokeField getInstanceField(Lookup lookup, Class<?> type, String name) {
+        for (InvokeField field : InvokeUtils.getFields(lookup, type, true)) {
+            if (name.equals(field.getName()) && !Modifier.isStatic(field.getModifiers())) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException(type + " has no accessible instance field " + name);
+    }
+
+    static <C, T> InvokePath<C, T> getPath(Lookup lookup, Class<C> type, String path) {
+        ConcurrentMap<String, InvokePath<?, ?>> paths = PATHS.get(lookup, type);
+        if (paths == null) {
+            paths = PATHS.put(lookup, type, new ConcurrentHashMap<>(4));
+        }
+        InvokePath<?, ?> invokePath = paths.get(path);
+        if (invokePath == null) {
+            // resolution failures are not cached, so they are reported on each retrieval
+            invokePath = newPath(lookup, type, path);
+            InvokePath<?, ?> existing = paths.putIfAbsent(path, invokePath);
+            if (existing != null) {
+                invokePath = existing;
+            }
+        }
+        return Utils.cast(invokePath);
+    }
+
+    /**
+     * Guard a handle to result in {@code null} when its single argument is {@code null}
+     * @param handle {@link MethodHandle} of a single reference argument and reference return
+     * @return guarded {@link MethodHandle}
+     */
+    private static MethodHandle nullGuard(MethodHandle handle) {
+        MethodType type = handle.type();
+        MethodHandle isNull = IS_NULL.asType(MethodType.methodType(boolean.class, type.parameterType(0)));
+        MethodHandle returnNull = MethodHandles.dropArguments(
+                MethodHandles.constant(type.returnType(), null), 0, type.parameterType(0));
+        return MethodHandles.guardWithTest(isNull, returnNull, handle);
+    }
+
+    private static <C, T> InvokePath<C, T> newPath(Lookup lookup, Class<C> type, String path) {
+        String[] names = path.split("\\.", -1);
+        List<InvokeField> fields = new ArrayList<>(names.length);
+        /* the getter accumulates the hops to the current one, guarded so that a null at any point
+         * results in null. the parent is the getter prior to the last hop, which the setter is applied on */
+        MethodHandle parent = MethodHandles.identity(type);
+        MethodHandle getter = parent;
+        Class<?> current = type;
+        for (String name : names) {
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException(path + " is not a valid path");
+            }
+            if (current.isPrimitive()) {
+                throw new IllegalArgumentException(path + " navigates through primitive " + current);
+            }
+            InvokeField field = getInstanceField(lookup, current, name);
+            fields.add(field);
+            MethodHandle hop = field.getGetterHandle();
+            // primitives are boxed so that a null intermediate value can result in null
+            hop = nullGuard(hop.asType(hop.type().wrap().changeParameterType(0, current)));
+            parent = getter;
+            getter = MethodHandles.filterReturnValue(getter, hop);
+            current = field.getType().returnType();
+        }
+
+        Class<T> valueType = Utils.cast(MethodType.methodType(current).wrap().returnType());
+        InvokeField last = fields.get(fields.size() - 1);
+        MethodHandle setter = last.getSetterHandle();
+        if (setter != null) {
+            setter = setter.asType(MethodType.methodType(void.class, parent.type().returnType(), valueType));
+            setter = MethodHandles.filterArguments(setter, 0, parent);
+        }
+        return new InvokePathImpl<>(type, path, valueType, Collections.unmodifiableList(fields), getter, setter);
+    }
+
+    private PathResolve() {}
+}
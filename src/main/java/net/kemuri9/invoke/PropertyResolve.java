@@ -0,0 +1,156 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+final class PropertyResolve {
+
+    private static final AccessCache<Map<String, InvokeProperty<?, ?>>> PROPERTIES = new AccessCache<>();
+
+    static <C> Map<String, InvokeProperty<C, ?>> getProperties(Lookup lookup, Class<C> type) {
+        Map<String, InvokeProperty<?, ?>> properties = PROPERTIES.get(lookup, type);
+        if (properties == null) {
+            properties = PROPERTIES.put(lookup, type, newProperties(lookup, type));
+        }
+        return Utils.cast(properties);
+    }
+
+    /**
+     * Retrieve the property name from an accessor name, following the rules of
+     * {@code java.beans.Introspector.decapitalize}
+     * @param name name of the accessor method
+     * @param prefixLength length of the accessor prefix, such as "get"
+     * @return name of the property
+     */
+    private static String getPropertyName(String name, int prefixLength) {
+        String property = name.substring(prefixLength);
+        if (property.length() > 1 && Character.isUpperCase(property.charAt(0))
+                && Character.isUpperCase(property.charAt(1))) {
+            return property;
+        }
+        return Character.toLowerCase(property.charAt(0)) + property.substring(1);
+    }
+
+    private static String getGetterName(InvokeExecutable<?> method) {
+        String name = method.getName();
+        MethodType type = method.getType();
+        // the receiver is the only parameter of a getter
+        if (type.parameterCount() != 1 || type.returnType() == void.class) {
+            return null;
+        }
+        if (name.length() > 3 && name.startsWith("get") && !"getClass".equals(name)) {
+            return getPropertyName(name, 3);
+        }
+        if (name.length() > 2 && name.startsWith("is") && type.returnType() == boolean.class) {
+            return getPropertyName(name, 2);
+        }
+        return null;
+    }
+
+    private static String getSetterName(InvokeExecutable<?> method) {
+        String name = method.getName();
+        MethodType type = method.getType();
+        // the receiver and value are the parameters of a setter
+        if (type.parameterCount() != 2 || type.returnType() != void.class) {
+            return null;
+        }
+        return (name.length() > 3 && name.startsWith("set")) ? getPropertyName(name, 3) : null;
+    }
+
+    private static <C> Map<String, InvokeProperty<?, ?>> newProperties(Lookup lookup, Class<C> type) {
+        /* methods are listed with the most derived types first, so the first accessor found for a name
+         * is the one that is utilized. dispatch is virtual regardless, so this only matters for covariance */
+        Map<String, InvokeExecutable<?>> getters = new HashMap<>();
+        Map<String, List<InvokeExecutable<?>>> setters = new HashMap<>();
+        for (InvokeExecutable<?> method : InvokeUtils.getMethods(lookup, type, true)) {
+            int modifiers = method.getModifiers();
+            if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers) || method.isSynthetic()) {
+                continue;
+            }
+            String name = getGetterName(method);
+            if (name != null) {
+                InvokeExecutable<?> existing = getters.get(name);
+                // isX is preferred over getX, as the Introspector does
+                if (existing == null || (method.getName().startsWith("is") && existing.getName().startsWith("get"))) {
+                    getters.put(name, method);
+                }
+                continue;
+            }
+            name = getSetterName(method);
+            if (name != null) {
+                setters.computeIfAbsent(name, (n)-> new ArrayList<>(2)).add(method);
+            }
+        }
+
+        // fields back accessors that are not declared
+        Map<String, InvokeField> fields = new HashMap<>();
+        for (InvokeField field : InvokeUtils.getFields(lookup, type, true)) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                fields.putIfAbsent(field.getName(), field);
+            }
+        }
+
+        Set<String> names = new TreeSet<>(getters.keySet());
+        names.addAll(setters.keySet());
+        Map<String, InvokeProperty<?, ?>> properties = new LinkedHashMap<>(names.size() * 4 / 3 + 1);
+        for (String name : names) {
+            InvokeExecutable<?> getter = getters.get(name);
+            InvokeExecutable<?> setter = null;
+            Class<?> propType = (getter == null) ? null : getter.getType().returnType();
+            for (InvokeExecutable<?> candidate : setters.getOrDefault(name, Collections.emptyList())) {
+                Class<?> valueType = candidate.getType().parameterType(1);
+                if (propType == null || propType == valueType) {
+                    setter = candidate;
+                    propType = valueType;
+                    break;
+                }
+            }
+            Member getMember = getter, setMember = setter;
+            MethodHandle getHandle = (getter == null) ? null : getter.getHandle();
+            MethodHandle setHandle = (setter == null) ? null : setter.getHandle();
+            InvokeField field = fields.get(name);
+            if (field != null && field.getType().returnType() == propType) {
+                if (getHandle == null) {
+                    getMember = field;
+                    getHandle = field.getGetterHandle();
+                }
+                // final fields are not writable properties
+                if (setHandle == null && !Modifier.isFinal(field.getModifiers())) {
+                    setMember = field;
+                    setHandle = field.getSetterHandle();
+                }
+            }
+            properties.put(name, new InvokePropertyImpl<>(type, name, propType, getMember, getHandle,
+                    (setHandle == null) ? null : setMember, setHandle));
+        }
+        return Collections.unmodifiableMap(properties);
+    }
+
+    private PropertyResolve() {}
+}
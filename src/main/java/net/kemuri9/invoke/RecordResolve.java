@@ -0,0 +1,27 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandles.Lookup;
+
+final class RecordResolve {
+
+    static <R> InvokeRecord<R> getRecord(Lookup lookup, Class<R> type) throws IllegalAccessException {
+        throw new UnsupportedOperationException("Records require Java 16 or later");
+    }
+
+    private RecordResolve() {}
+}
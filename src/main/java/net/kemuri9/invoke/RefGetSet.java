@@ -23,13 +23,23 @@ import java.lang.reflect.Member;
 final class RefGetSet {
 
     final Member getter;
-    final Member setter;
+    /** created on first use, as the setter is not needed for read only access */
+    private volatile Member setter;
 
     RefGetSet(Member getter) {
         this.getter = getter;
-        MemberNameAccess memName = MemberNameAccess.getInstance();
-        this.setter = memName.newMember(getter.getDeclaringClass(), getter.getName(),
-                // adding 2 to a getter ends up with the corresponding setter
-                (Class<?>) memName.getType(getter), (byte) (memName.getReferenceKind(getter) + 2));
+    }
+
+    Member getSetter() {
+        Member setter = this.setter;
+        if (setter == null) {
+            MemberNameAccess memName = MemberNameAccess.getInstance();
+            // creating the setter multiple times on contention is harmless, so no lock is necessary
+            setter = memName.newMember(getter.getDeclaringClass(), getter.getName(),
+                    // adding 2 to a getter ends up with the corresponding setter
+                    (Class<?>) memName.getType(getter), (byte) (memName.getReferenceKind(getter) + 2));
+            this.setter = setter;
+        }
+        return setter;
     }
 }
@@ -28,26 +28,38 @@ import java.lang.reflect.Member;
  */
 final class SecurityManagerDisabler {
 
-    static interface Execute<T> {
-        T execute() throws Throwable;
-    }
-
-    private static SecurityManagerDisabler INSTANCE = null;
-    private static final Object[] NULL_SM = new Object[] { null };
+    private static volatile SecurityManagerDisabler INSTANCE = null;
+    /** failure to initialize, retained so that it is not repeated on every retrieval */
+    private static Throwable FAILURE = null;
 
     static SecurityManagerDisabler getInstance() {
-        if (INSTANCE == null) {
-            synchronized(SecurityManagerDisabler.class) {
-                if (INSTANCE == null) {
-                    try {
-                        INSTANCE = new SecurityManagerDisabler();
-                    } catch (Throwable t) {
-                        throw new UnsupportedOperationException("Unable to setup SecurityManagerDisabler", t);
-                    }
+        SecurityManagerDisabler instance = INSTANCE;
+        if (instance != null) {
+            return instance;
+        }
+        synchronized(SecurityManagerDisabler.class) {
+            if (INSTANCE == null) {
+                if (FAILURE != null) {
+                    throw new UnsupportedOperationException("Unable to setup SecurityManagerDisabler", FAILURE);
+                }
+                try {
+                    INSTANCE = new SecurityManagerDisabler();
+                } catch (Throwable t) {
+                    FAILURE = t;
+                    throw new UnsupportedOperationException("Unable to setup SecurityManagerDisabler", t);
                 }
             }
+            return INSTANCE;
+        }
+    }
+
+    /**
+     * Discard a retained failure to initialize, so that the next retrieval attempts it again
+     */
+    static void reset() {
+        synchronized(SecurityManagerDisabler.class) {
+            FAILURE = null;
         }
-        return INSTANCE;
     }
 
     private final MethodHandle setSecurity;
@@ -65,10 +77,26 @@ final class SecurityManagerDisabler {
         getSecurity = access.resolveField(lookup, member);
     }
 
-    <T> T withSecurityDisabled(Execute<T> execute) {
-        SecurityManager sm = InvokeUtils.invoke(getSecurity);
+    private SecurityManager getSecurity() {
+        try {
+            return (SecurityManager) getSecurity.invokeExact();
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
+    }
+
+    private void setSecurity(SecurityManager sm) {
+        try {
+            setSecurity.invokeExact(sm);
+        } catch (Throwable t) {
+            throw Utils.asException(t, RuntimeException.class, "invocation failed");
+        }
+    }
+
+    <T> T withSecurityDisabled(Utils.Execute<T> execute) {
+        SecurityManager sm = getSecurity();
         if (sm != null) {
-            InvokeUtils.invoke(setSecurity, NULL_SM);
+            setSecurity(null);
         }
         try {
             return execute.execute();
@@ -76,7 +104,7 @@ final class SecurityManagerDisabler {
             throw Utils.asException(t, RuntimeException.class, "execution failed");
         } finally {
             if (sm != null) {
-                InvokeUtils.invoke(setSecurity, sm);
+                setSecurity(sm);
             }
         }
     }
@@ -0,0 +1,103 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.lang.reflect.Member;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of {@link MutableCallSite}s holding the current values of static fields that are read as stable.
+ * The call sites are linked to a constant of the field value, so that the JIT may constant fold reads,
+ * and are re-linked whenever the field is written through this library.
+ */
+final class StableStatics {
+
+    private static final class Site {
+
+        private final MutableCallSite site;
+        private final MethodHandle getter;
+
+        Site(MethodHandle getter) {
+            this.getter = getter;
+            this.site = new MutableCallSite(getter.type());
+            relink();
+        }
+
+        synchronized void relink() {
+            /* read the value back from the field rather than utilizing the written value,
+             * so that concurrent writes always converge on the current value */
+            Object value;
+            try {
+                value = getter.invoke();
+            } catch (Throwable t) {
+                throw Utils.asException(t, UnsupportedOperationException.class, "failed to retrieve value");
+            }
+            site.setTarget(MethodHandles.constant(site.type().returnType(), value));
+            MutableCallSite.syncAll(new MutableCallSite[] { site });
+        }
+    }
+
+    private static final ClassValue<ConcurrentMap<String, Site>> SITES = new ClassValue<ConcurrentMap<String, Site>>() {
+        @Override
+        protected ConcurrentMap<String, Site> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>(4);
+        }
+    };
+
+    /** avoid the registry entirely on writes until some field is read as stable */
+    private static volatile boolean ACTIVE = false;
+
+    /**
+     * Retrieve the stable getter for a static field, registering it when not already registered
+     * @param member {@link Member} of the static field
+     * @param getter {@link MethodHandle} that retrieves the value of the field
+     * @return {@link MethodHandle} of the same type as {@code getter} that reads the stable value
+     */
+    static MethodHandle getStableGetter(Member member, MethodHandle getter) {
+        ConcurrentMap<String, Site> sites = SITES.get(member.getDeclaringClass());
+        Site site = sites.get(member.getName());
+        if (site == null) {
+            /* activate before the initial read, and read again once registered, so that a write
+             * occurring while the site is being registered is never missed */
+            ACTIVE = true;
+            Site newSite = new Site(getter);
+            site = sites.putIfAbsent(member.getName(), newSite);
+            site = (site == null) ? newSite : site;
+            site.relink();
+        }
+        return site.site.dynamicInvoker();
+    }
+
+    /**
+     * Notify that a static field has been written, re-linking its stable getter if it has one
+     * @param member {@link Member} of the static field
+     */
+    static void written(Member member) {
+        if (!ACTIVE) {
+            return;
+        }
+        Site site = SITES.get(member.getDeclaringClass()).get(member.getName());
+        if (site != null) {
+            site.relink();
+        }
+    }
+
+    private StableStatics() {}
+}
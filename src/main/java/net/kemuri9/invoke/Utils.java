@@ -15,27 +15,88 @@
  */
 package net.kemuri9.invoke;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 class Utils {
 
     static final String TYPE_MEMBER_NAME = "java.lang.invoke.MemberName";
     static final String TYPE_MEMBER_NAME_FACTORY = "java.lang.invoke.MemberName$Factory";
 
+    /** type of the wrapper constructors, {@code (String,Throwable)RuntimeException} */
+    private static final MethodType WRAPPER_TYPE =
+            MethodType.methodType(RuntimeException.class, String.class, Throwable.class);
+
+    /** constructors of the wrapper exceptions, resolved once for each type */
+    private static final ClassValue<MethodHandle> WRAPPERS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodType ctorType = WRAPPER_TYPE.changeReturnType(void.class);
+            try {
+                return lookup.findConstructor(type, ctorType).asType(WRAPPER_TYPE);
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                // not constructable with a message and cause, so fall back to RuntimeException
+                try {
+                    return lookup.findConstructor(RuntimeException.class, ctorType).asType(WRAPPER_TYPE);
+                } catch (ReflectiveOperationException ex2) {
+                    throw new ExceptionInInitializerError(ex2);
+                }
+            }
+        }
+    };
+
+    /**
+     * Execution that may throw any {@link Throwable}, such as an invocation of a {@link MethodHandle}
+     * @param <T> Type of result
+     */
+    static interface Execute<T> {
+        T execute() throws Throwable;
+    }
+
+    /** state of wrapper exceptions filling in their stack trace */
+    static volatile boolean WRAPPER_STACK_TRACES = true;
+
     static RuntimeException asException(Throwable t, Class<? extends RuntimeException> asType, String message) {
-       if (t instanceof RuntimeException) {
-           return cast(t);
-       }
-       try {
-           return asType.getDeclaredConstructor(String.class, Throwable.class).newInstance(message, t);
-       } catch (Exception ex) {
-           return new RuntimeException(message, t);
-       }
+        if (t instanceof RuntimeException) {
+            return cast(t);
+        }
+        return wrap(t, asType, message);
+    }
+
+    /**
+     * Convert a {@link Throwable} to a {@link RuntimeException}, building the message only when wrapping is necessary
+     * @param t {@link Throwable} to convert
+     * @param asType type of {@link RuntimeException} to wrap with
+     * @param message {@link Supplier} of the message of the wrapper
+     * @return {@code t} if it is a {@link RuntimeException}, otherwise a wrapper of {@code t}
+     */
+    static RuntimeException asException(Throwable t, Class<? extends RuntimeException> asType,
+            Supplier<String> message) {
+        if (t instanceof RuntimeException) {
+            return cast(t);
+        }
+        return wrap(t, asType, message.get());
+    }
+
+    private static RuntimeException wrap(Throwable t, Class<? extends RuntimeException> asType, String message) {
+        if (!WRAPPER_STACK_TRACES) {
+            asType = LightExceptions.getLightType(asType);
+        }
+        try {
+            return (RuntimeException) WRAPPERS.get(asType).invokeExact(message, t);
+        } catch (Throwable ex) {
+            return new RuntimeException(message, t);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -59,8 +120,22 @@ class Utils {
 
     static boolean isFullLookup(MethodHandles.Lookup lookup) {
         /* to avoid requiring the acquisition of the full access lookup,
-         * check toString for the special "/trusted" name instead */
-        return "/trusted".equals(lookup.toString());
+         * check toString for the special "/trusted" name instead.
+         * the trusted lookup is of Object, which avoids building the name of other lookups */
+        return lookup.lookupClass() == Object.class && "/trusted".equals(lookup.toString());
+    }
+
+    /**
+     * Determine if a member is a constructor, whether it originates from reflection or from the lookup variation
+     * @param member {@link Member} to check
+     * @return state of {@code member} being a constructor
+     */
+    static boolean isConstructor(Member member) {
+        /* internally the names for constructors are <init>,
+         * but in reflection this becomes the declaring class name */
+        String name = member.getName();
+        return member instanceof Constructor || "<init>".equals(name)
+                || member.getDeclaringClass().getName().equals(name);
     }
 
     static <T> T notNull(T value, String name) {
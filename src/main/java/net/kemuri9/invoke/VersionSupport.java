@@ -58,10 +58,12 @@ final class VersionSupport {
         /* java 8 does not have accessClass on Lookup, as that was added in java 9.
          * accessClass just wraps VerifyAccess.isClassAccessible, so use that directly
          * as there is no module system to get in the way */
-        if (Utils.isFullLookup(lookup)) {
+        LookupDescriptor descriptor = LookupDescriptor.of(lookup);
+        if (descriptor.isFull()) {
             return true;
         }
-        Boolean accessible = InvokeUtils.invokeQuietly(VERIFY_ACCESS, nestedType, lookup.lookupClass(), lookup.lookupModes());
+        Boolean accessible = InvokeUtils.invokeQuietly(VERIFY_ACCESS, nestedType, descriptor.getLookupType(),
+                descriptor.getLookupModes());
         return Utils.defaultValue(accessible, Boolean.TRUE);
     }
 
@@ -0,0 +1,307 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the members resolved through {@link InvokeUtils} to a manifest file,
+ * and preloads the members of a manifest file.
+ *
+ * Recording a manifest in a training run and preloading it at startup moves the cost of resolving the members
+ * ahead of when they are first used.
+ * The resolutions themselves are not retained, as the member listings are not cached by {@link InvokeUtils};
+ * preloading warms the state of the JVM instead, such as loading and linking the classes,
+ * resolving the members and spinning the forms of their handles.
+ * Entries are replayed with exactly the access of the recorded lookup, and entries whose access
+ * can not be recreated, such as lookups with reduced modes on Java 8, are skipped.
+ * The manifest is a text file with one resolution per line, where each line is tab separated as
+ * {@code kind, lookup class, lookup modes, declaring class, name, descriptor}.
+ * The full access lookup is recorded with a lookup class of {@code *}.
+ * @since 1.2
+ */
+public final class WarmupManifest {
+
+    private static enum Kind {
+        CONSTRUCTOR, CONSTRUCTORS, FIELD, FIELDS, METHOD, METHODS;
+    }
+
+    private static final class Recorder {
+
+        private final Set<String> recorded = ConcurrentHashMap.newKeySet();
+        private final BufferedWriter writer;
+        private IOException failure;
+
+        Recorder(Path file) throws IOException {
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            writer.write(HEADER);
+            writer.newLine();
+        }
+
+        void close() throws IOException {
+            synchronized (writer) {
+                writer.close();
+                if (failure != null) {
+                    throw failure;
+                }
+            }
+        }
+
+        void record(String entry) {
+            if (!recorded.add(entry)) {
+                return;
+            }
+            synchronized (writer) {
+                try {
+                    writer.write(entry);
+                    writer.newLine();
+                } catch (IOException ex) {
+                    // recording must not fail the resolution, so report it when recording stops
+                    if (failure == null) {
+                        failure = ex;
+                    }
+                }
+            }
+        }
+    }
+
+    private static final String HEADER = "# net.kemuri9.invoke warm-up manifest";
+    private static final String FULL_ACCESS = "*";
+
+    /** {@code Lookup.dropLookupMode}, which is only present on Java 9+ */
+    private static final MethodHandle DROP_LOOKUP_MODE;
+
+    static {
+        MethodHandle handle = null;
+        try {
+            handle = MethodHandles.publicLookup().findVirtual(MethodHandles.Lookup.class, "dropLookupMode",
+                    MethodType.methodType(MethodHandles.Lookup.class, int.class));
+        } catch (Throwable t) {}
+        DROP_LOOKUP_MODE = handle;
+    }
+
+    private static volatile Recorder RECORDER = null;
+
+    private static String descriptor(Member member) {
+        if (member instanceof Field) {
+            // fields are recorded as a method returning the field type
+            return MethodType.methodType(((Field) member).getType()).toMethodDescriptorString();
+        }
+        if (member instanceof Method) {
+            Method method = (Method) member;
+            return MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString();
+        }
+        return MethodType.methodType(void.class, ((Constructor<?>) member).getParameterTypes())
+                .toMethodDescriptorString();
+    }
+
+    /**
+     * Retrieve the state of resolutions being recorded
+     * @return state of resolutions being recorded
+     */
+    public static boolean isRecording() {
+        return RECORDER != null;
+    }
+
+    /**
+     * Preload all the members of a manifest, in parallel. Classes are loaded with the context class loader.
+     * @param file {@link Path} of the manifest to preload
+     * @return number of entries of the manifest that were successfully preloaded
+     * @throws IOException When reading {@code file} fails
+     * @throws IllegalArgumentException When {@code file} is {@code null}
+     */
+    public static int preload(Path file) throws IOException {
+        return preload(file, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Preload all the members of a manifest, in parallel.
+     * Entries that can no longer be resolved, such as for classes that are no longer present, are skipped.
+     * @param file {@link Path} of the manifest to preload
+     * @param loader {@link ClassLoader} to load classes with. {@code null} indicates the system class loader
+     * @return number of entries of the manifest that were successfully preloaded
+     * @throws IOException When reading {@code file} fails
+     * @throws IllegalArgumentException When {@code file} is {@code null}
+     */
+    public static int preload(Path file, ClassLoader loader) throws IOException {
+        Utils.notNull(file, "file");
+        ClassLoader classLoader = (loader == null) ? ClassLoader.getSystemClassLoader() : loader;
+        List<String> entries = Files.readAllLines(file, StandardCharsets.UTF_8);
+        return entries.parallelStream().filter((e)-> !e.isEmpty() && !e.startsWith("#"))
+                .mapToInt((e)-> preloadEntry(e, classLoader) ? 1 : 0).sum();
+    }
+
+    private static boolean preloadEntry(String entry, ClassLoader loader) {
+        String[] parts = entry.split("\t", -1);
+        if (parts.length != 6) {
+            return false;
+        }
+        try {
+            Kind kind = Kind.valueOf(parts[0]);
+            MethodHandles.Lookup lookup = toLookup(parts[1], Integer.parseInt(parts[2]), loader);
+            if (lookup == null) {
+                return false;
+            }
+            Class<?> type = Class.forName(parts[3], false, loader);
+            String name = parts[4];
+            MethodType descriptor = MethodType.fromMethodDescriptorString(parts[5], loader);
+            switch (kind) {
+            case CONSTRUCTOR:
+                InvokeUtils.getConstructor(lookup, type.getDeclaredConstructor(descriptor.parameterArray()));
+                break;
+            case CONSTRUCTORS:
+                InvokeUtils.getConstructors(lookup, type);
+                break;
+            case FIELD:
+                InvokeUtils.getField(lookup, type.getDeclaredField(name));
+                break;
+            case FIELDS:
+                InvokeUtils.getFields(lookup, type, Boolean.parseBoolean(name));
+                break;
+            case METHOD:
+                InvokeUtils.getMethod(lookup, type.getDeclaredMethod(name, descriptor.parameterArray()));
+                break;
+            case METHODS:
+                InvokeUtils.getMethods(lookup, type, Boolean.parseBoolean(name));
+                break;
+            }
+            return true;
+        } catch (Exception | LinkageError ex) {
+            // the entry is stale or not accessible, so skip it
+            return false;
+        }
+    }
+
+    private static void record(Kind kind, MethodHandles.Lookup lookup, Class<?> type, String name, String descriptor) {
+        Recorder recorder = RECORDER;
+        if (recorder == null) {
+            return;
+        }
+        LookupDescriptor access = LookupDescriptor.of(lookup);
+        if (access.getPreviousLookupType() != null) {
+            // the manifest does not describe teleported lookups, so they can not be replayed
+            return;
+        }
+        String lookupType = access.isFull() ? FULL_ACCESS : access.getLookupType().getName();
+        recorder.record(new StringBuilder(128).append(kind).append('\t').append(lookupType)
+                .append('\t').append(access.getLookupModes()).append('\t').append(type.getName())
+                .append('\t').append(name).append('\t').append(descriptor).toString());
+    }
+
+    static void recordConstructors(MethodHandles.Lookup lookup, Class<?> type) {
+        record(Kind.CONSTRUCTORS, lookup, type, "false", "()V");
+    }
+
+    static void recordFields(MethodHandles.Lookup lookup, Class<?> type, boolean includeInherited) {
+        record(Kind.FIELDS, lookup, type, String.valueOf(includeInherited), "()V");
+    }
+
+    static void recordMember(MethodHandles.Lookup lookup, Member member) {
+        if (RECORDER != null) {
+            Kind kind = (member instanceof Field) ? Kind.FIELD
+                    : (member instanceof Method) ? Kind.METHOD : Kind.CONSTRUCTOR;
+            record(kind, lookup, member.getDeclaringClass(), member.getName(), descriptor(member));
+        }
+    }
+
+    static void recordMethods(MethodHandles.Lookup lookup, Class<?> type, boolean includeInherited) {
+        record(Kind.METHODS, lookup, type, String.valueOf(includeInherited), "()V");
+    }
+
+    /**
+     * Start recording the resolutions performed through {@link InvokeUtils} to a manifest file
+     * @param file {@link Path} of the manifest to write. An existing file is replaced
+     * @throws IOException When creating {@code file} fails
+     * @throws IllegalArgumentException When {@code file} is {@code null}
+     * @throws IllegalStateException When already recording
+     */
+    public static void startRecording(Path file) throws IOException {
+        Utils.notNull(file, "file");
+        synchronized (WarmupManifest.class) {
+            if (RECORDER != null) {
+                throw new IllegalStateException("already recording");
+            }
+            RECORDER = new Recorder(file);
+        }
+    }
+
+    /**
+     * Stop recording resolutions, completing the manifest file. Does nothing when not recording
+     * @throws IOException When writing the manifest file failed
+     */
+    public static void stopRecording() throws IOException {
+        Recorder recorder;
+        synchronized (WarmupManifest.class) {
+            recorder = RECORDER;
+            RECORDER = null;
+        }
+        if (recorder != null) {
+            recorder.close();
+        }
+    }
+
+    /**
+     * Recreate a recorded lookup with exactly its recorded access
+     * @param lookupType name of the lookup class
+     * @param modes lookup modes
+     * @param loader {@link ClassLoader} to load the lookup class with
+     * @return recreated {@link MethodHandles.Lookup}. {@code null} when the access can not be recreated exactly
+     * @throws ClassNotFoundException When the lookup class is not present
+     */
+    private static MethodHandles.Lookup toLookup(String lookupType, int modes, ClassLoader loader)
+            throws ClassNotFoundException {
+        if (FULL_ACCESS.equals(lookupType)) {
+            return InvokeUtils.getFullAccessLookup();
+        }
+        MethodHandles.Lookup publicLookup = MethodHandles.publicLookup();
+        if (modes == publicLookup.lookupModes() && lookupType.equals(publicLookup.lookupClass().getName())) {
+            return publicLookup;
+        }
+        // start from all the access the lookup class has over itself, and drop what was not recorded
+        MethodHandles.Lookup lookup = InvokeUtils.getFullAccessLookup().in(Class.forName(lookupType, false, loader));
+        int current = lookup.lookupModes();
+        if (current != modes && DROP_LOOKUP_MODE != null) {
+            // drop the broadest modes first, as dropping a mode also drops the narrower modes it implies
+            for (int mode = Integer.highestOneBit(current); mode != 0; mode >>>= 1) {
+                if ((current & mode) != 0 && (modes & mode) == 0) {
+                    try {
+                        lookup = (MethodHandles.Lookup) DROP_LOOKUP_MODE.invokeExact(lookup, mode);
+                    } catch (Throwable t) {
+                        return null;
+                    }
+                }
+            }
+        }
+        // never replay with more access than was recorded, as that resolves differently
+        return (lookup.lookupModes() == modes) ? lookup : null;
+    }
+
+    private WarmupManifest() {}
+}
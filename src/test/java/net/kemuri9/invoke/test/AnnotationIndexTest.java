@@ -0,0 +1,111 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke.test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.kemuri9.invoke.InvokeAnnotated;
+import net.kemuri9.invoke.InvokeExecutable;
+import net.kemuri9.invoke.InvokeField;
+import net.kemuri9.invoke.InvokeUtils;
+
+import test.Annotated1;
+import test.Annotated1.Marker;
+import test.Annotated2;
+
+public class AnnotationIndexTest {
+
+    private static Set<String> values(List<? extends InvokeAnnotated<Marker, ?>> annotated) {
+        Set<String> values = annotated.stream().map((a)-> a.getAnnotation().value()).collect(Collectors.toSet());
+        for (InvokeAnnotated<Marker, ?> entry : annotated) {
+            // marker values are the names of the members they are on
+            if (!"ctor".equals(entry.getAnnotation().value())) {
+                Assertions.assertEquals(entry.getAnnotation().value(), entry.getMember().getName());
+            }
+        }
+        return values;
+    }
+
+    @Test
+    public void testCached() {
+        MethodHandles.Lookup lookup = InvokeUtils.getFullAccessLookup();
+        Assertions.assertSame(InvokeUtils.getAnnotatedFields(lookup, Annotated2.class, Marker.class),
+                InvokeUtils.getAnnotatedFields(lookup, Annotated2.class, Marker.class));
+    }
+
+    @Test
+    public void testGetAnnotatedConstructors() {
+        List<InvokeAnnotated<Marker, InvokeExecutable<?>>> ctors =
+                InvokeUtils.getAnnotatedConstructors(null, Annotated1.class, Marker.class);
+        Assertions.assertEquals(1, ctors.size());
+        Assertions.assertEquals("ctor", ctors.get(0).getAnnotation().value());
+        Assertions.assertTrue(ctors.get(0).getMember().invoke() instanceof Annotated1);
+        // constructors are not inherited
+        Assertions.assertTrue(InvokeUtils.getAnnotatedConstructors(null, Annotated2.class, Marker.class).isEmpty());
+    }
+
+    @Test
+    public void testGetAnnotatedFields() {
+        List<InvokeAnnotated<Marker, InvokeField>> fields =
+                InvokeUtils.getAnnotatedFields(InvokeUtils.getFullAccessLookup(), Annotated2.class, Marker.class);
+        Assertions.assertEquals(TestUtils.setOf("field1", "field2", "field3"), values(fields));
+
+        // private fields are not publicly accessible
+        fields = InvokeUtils.getAnnotatedFields(null, Annotated2.class, Marker.class);
+        Assertions.assertEquals(TestUtils.setOf("field1", "field3"), values(fields));
+        Annotated2 instance = new Annotated2();
+        instance.field1 = "value";
+        InvokeField field1 = fields.stream().filter((f)-> "field1".equals(f.getMember().getName())).findFirst()
+                .get().getMember();
+        Assertions.assertEquals("value", field1.asInstance().apply(instance));
+
+        Assertions.assertTrue(InvokeUtils.getAnnotatedFields(null, Annotated2.class, Deprecated.class).isEmpty());
+    }
+
+    @Test
+    public void testGetAnnotatedMethods() {
+        MethodHandles.Lookup lookup = InvokeUtils.getFullAccessLookup();
+        List<InvokeAnnotated<Marker, InvokeExecutable<?>>> methods =
+                InvokeUtils.getAnnotatedMethods(lookup, Annotated2.class, Marker.class);
+        Assertions.assertEquals(TestUtils.setOf("method1", "method2", "method3"), values(methods));
+
+        // Object is part of the hierarchy, and has deprecated methods in later versions of java
+        List<String> deprecated = InvokeUtils.getAnnotatedMethods(lookup, Annotated2.class, Deprecated.class).stream()
+                .map(InvokeAnnotated::getMember).filter((m)-> m.getDeclaringClass() != Object.class)
+                .map(InvokeExecutable::getName).collect(Collectors.toList());
+        Assertions.assertEquals(Collections.singletonList("method2"), deprecated);
+
+        methods = InvokeUtils.getAnnotatedMethods(null, Annotated1.class, Marker.class);
+        Assertions.assertEquals(TestUtils.setOf("method1"), values(methods));
+    }
+
+    @Test
+    public void testNull() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()-> InvokeUtils.getAnnotatedConstructors(null, null, Marker.class));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()-> InvokeUtils.getAnnotatedFields(null, Annotated1.class, null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()-> InvokeUtils.getAnnotatedMethods(null, null, Marker.class));
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke.test;
+
+import java.lang.annotation.RetentionPolicy;
+import java.lang.invoke.MethodHandles;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.kemuri9.invoke.InvokeCodec;
+import net.kemuri9.invoke.InvokeUtils;
+
+import test.Encoded;
+import test.Order;
+
+public class InvokeCodecImplTest {
+
+    private static Encoded newEncoded() {
+        Encoded encoded = new Encoded(9L);
+        encoded.z = true;
+        encoded.b = (byte) 1;
+        encoded.c = 'c';
+        encoded.s = (short) 2;
+        encoded.i = 3;
+        encoded.j = 4L;
+        encoded.f = 5.5f;
+        encoded.d = 6.5;
+        encoded.boxed = 7;
+        encoded.string = "string\u00e9";
+        encoded.policy = RetentionPolicy.RUNTIME;
+        encoded.ignored = "ignored";
+        return encoded;
+    }
+
+    private static void assertRoundTrip(ByteBuffer buffer) {
+        InvokeCodec<Encoded> codec = InvokeUtils.getCodec(InvokeUtils.getFullAccessLookup(), Encoded.class);
+        Encoded source = newEncoded();
+        codec.write(source, buffer);
+        buffer.flip();
+        Encoded target = new Encoded(0L);
+        Assertions.assertSame(target, codec.read(buffer, target));
+        Assertions.assertFalse(buffer.hasRemaining());
+        Assertions.assertEquals(source.z, target.z);
+        Assertions.assertEquals(source.b, target.b);
+        Assertions.assertEquals(source.c, target.c);
+        Assertions.assertEquals(source.s, target.s);
+        Assertions.assertEquals(source.i, target.i);
+        Assertions.assertEquals(source.j, target.j);
+        Assertions.assertEquals(source.f, target.f);
+        Assertions.assertEquals(source.d, target.d);
+        Assertions.assertEquals(source.boxed, target.boxed);
+        Assertions.assertEquals(source.string, target.string);
+        Assertions.assertEquals(source.policy, target.policy);
+        Assertions.assertEquals(source.getId(), target.getId());
+        Assertions.assertEquals(source.getCity(), target.getCity());
+        Assertions.assertEquals(source.getNumber(), target.getNumber());
+        Assertions.assertNull(target.ignored);
+    }
+
+    @Test
+    public void testCached() {
+        Assertions.assertSame(InvokeUtils.getCodec(null, Order.Customer.class),
+                InvokeUtils.getCodec(null, Order.Customer.class));
+    }
+
+    @Test
+    public void testGetNames() {
+        InvokeCodec<Encoded> codec = InvokeUtils.getCodec(InvokeUtils.getFullAccessLookup(), Encoded.class);
+        Assertions.assertEquals(Encoded.class, codec.getType());
+        Assertions.assertEquals(Arrays.asList("z", "b", "c", "s", "i", "j", "f", "d", "boxed", "string", "policy",
+                "id", "city", "number", "country"), codec.getNames());
+    }
+
+    @Test
+    public void testInvalid() {
+        InvokeCodec<Encoded> codec = InvokeUtils.getCodec(InvokeUtils.getFullAccessLookup(), Encoded.class);
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.getCodec(null, null));
+        // Address of Customer is not an encodable type
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.getCodec(
+                InvokeUtils.getFullAccessLookup(), Order.Customer.class));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> codec.write(null, ByteBuffer.allocate(8)));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> codec.write(newEncoded(), null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> codec.read(null, newEncoded()));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> codec.read(ByteBuffer.allocate(8), null));
+        Assertions.assertThrows(BufferOverflowException.class, ()-> codec.write(newEncoded(), ByteBuffer.allocate(8)));
+        Assertions.assertThrows(BufferUnderflowException.class, ()-> codec.read(ByteBuffer.allocate(8),
+                newEncoded()));
+    }
+
+    @Test
+    public void testNulls() {
+        InvokeCodec<Encoded> codec = InvokeUtils.getCodec(InvokeUtils.getFullAccessLookup(), Encoded.class);
+        Encoded source = new Encoded(1L);
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        codec.write(source, buffer);
+        buffer.flip();
+        Encoded target = newEncoded();
+        codec.read(buffer, target);
+        Assertions.assertNull(target.boxed);
+        Assertions.assertNull(target.string);
+        Assertions.assertNull(target.policy);
+        Assertions.assertEquals(1L, target.getId());
+    }
+
+    @Test
+    public void testPublic() {
+        // the private fields are not accessible, so are not encoded
+        InvokeCodec<Encoded> codec = InvokeUtils.getCodec(MethodHandles.publicLookup(), Encoded.class);
+        Assertions.assertEquals(Arrays.asList("z", "b", "c", "s", "i", "j", "f", "d", "boxed", "string", "policy"),
+                codec.getNames());
+    }
+
+    @Test
+    public void testRoundTrip() {
+        assertRoundTrip(ByteBuffer.allocate(128));
+        assertRoundTrip(ByteBuffer.allocateDirect(128));
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke.test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.kemuri9.invoke.InvokeConverters;
+import net.kemuri9.invoke.InvokeExecutable;
+import net.kemuri9.invoke.InvokeUtils;
+
+public class InvokeConvertersTest {
+
+    public static String describe(int i, long l, double d, String s, Boolean b) {
+        return Arrays.asList(i, l, d, s, b).toString();
+    }
+
+    public static String join(CharSequence a, Object b) {
+        return a + "|" + b;
+    }
+
+    private static InvokeExecutable<String> getDescribe() throws Exception {
+        return InvokeUtils.getMethod(MethodHandles.lookup(), InvokeConvertersTest.class.getMethod("describe",
+                int.class, long.class, double.class, String.class, Boolean.class));
+    }
+
+    @Test
+    public void testConverting() throws Exception {
+        InvokeExecutable<String> source = getDescribe();
+        InvokeExecutable<String> exec = new InvokeConverters().registerDefaults().converting(source);
+        Assertions.assertEquals(source.getName(), exec.getName());
+        Assertions.assertEquals(source.getType(), exec.getType());
+        Assertions.assertSame(source.getHandle(), exec.getHandle());
+        Assertions.assertEquals(source.getExecutable(null), exec.getExecutable(null));
+
+        // applicable arguments are untouched
+        Assertions.assertEquals("[1, 2, 3.0, s, true]", exec.invoke(1, 2L, 3d, "s", true));
+        Assertions.assertEquals("[1, 2, 3.0, s, null]", exec.invoke((byte) 1, 2, 3f, "s", null));
+        // narrowing, parsing and null conversions
+        Assertions.assertEquals("[1, 2, 3.5, 4, false]", exec.invoke(1L, "2", "3.5", 4, "false"));
+        Assertions.assertEquals("[0, 0, 0.0, null, null]", exec.invoke(null, null, null, null, null));
+        // repeated profiles and alternating profiles
+        for (int i = 0; i < 3; ++i) {
+            Assertions.assertEquals("[5, 6, 7.0, 8, true]", exec.invoke(5L, 6L, 7L, 8L, "true"));
+            Assertions.assertEquals("[5, 6, 7.0, s, true]", exec.apply(new Object[] { 5, 6, 7, "s", true }));
+        }
+    }
+
+    @Test
+    public void testConvertingInvalid() throws Exception {
+        InvokeExecutable<String> exec = new InvokeConverters().registerDefaults().converting(getDescribe());
+        Assertions.assertThrows(NumberFormatException.class, ()-> exec.invoke("x", 2, 3, "s", true));
+        // no conversion available from Object to Boolean
+        Assertions.assertThrows(ClassCastException.class, ()-> exec.invoke(1, 2, 3, "s", new Object()));
+        Assertions.assertThrows(RuntimeException.class, ()-> exec.invoke(1, 2));
+        Assertions.assertThrows(RuntimeException.class, ()-> exec.apply(null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> new InvokeConverters().converting(null));
+
+        // without conversions the behavior is that of the executable
+        InvokeExecutable<String> plain = new InvokeConverters().converting(getDescribe());
+        Assertions.assertThrows(ClassCastException.class, ()-> plain.invoke(1L, 2, 3, "s", true));
+        Assertions.assertThrows(NullPointerException.class, ()-> plain.invoke(null, 2, 3, "s", true));
+    }
+
+    @Test
+    public void testRegister() throws Exception {
+        InvokeConverters converters = new InvokeConverters()
+                .register(Integer.class, CharSequence.class, (i)-> "#" + i)
+                .register(MethodHandles.lookup().findStatic(Integer.class, "toHexString",
+                        MethodType.methodType(String.class, int.class)));
+        InvokeExecutable<String> join = converters.converting(InvokeUtils.getMethod(MethodHandles.lookup(),
+                InvokeConvertersTest.class.getMethod("join", CharSequence.class, Object.class)));
+        Assertions.assertEquals("#15|15", join.invoke(15, 15));
+        Assertions.assertEquals("a|b", join.invoke("a", "b"));
+        Assertions.assertEquals("a|b", join.bindArguments(0, "a").invoke("b"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> converters.register(null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> converters.register(
+                MethodHandles.lookup().findStatic(InvokeConvertersTest.class, "join",
+                        MethodType.methodType(String.class, CharSequence.class, Object.class))));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> converters.register(null, String.class, (o)-> ""));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> converters.register(Object.class, null, (o)-> ""));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> converters.register(Object.class, String.class, null));
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke.test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.kemuri9.invoke.InvokeDynamic;
+import net.kemuri9.invoke.InvokeUtils;
+
+import test.Overloaded;
+import test.Type1;
+
+public class InvokeDynamicImplTest {
+
+    @Test
+    public void testCall() {
+        InvokeDynamic dynamic = InvokeUtils.dynamic(MethodHandles.publicLookup());
+        Type1 type1 = new Type1();
+        Assertions.assertEquals((byte) 5, (Byte) dynamic.call(type1, "ido1", "5"));
+        Assertions.assertEquals("s", dynamic.call("s", "toString"));
+        Assertions.assertEquals("Sub.String", dynamic.call(new Overloaded.Sub(), "h", "s"));
+        Assertions.assertEquals("String", dynamic.call(new Overloaded(), "h", "s"));
+        Assertions.assertEquals("CharSequence", dynamic.call(new Overloaded(), "h", new StringBuilder()));
+        Assertions.assertEquals(3, (Integer) dynamic.call("abc", "length"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> dynamic.call(null, "toString"));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> dynamic.call(type1, null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> dynamic.call(type1, "none"));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> dynamic.call(type1, "ido1", 5));
+        // not accessible with the public lookup
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> dynamic.call(type1, "ido4", 5));
+        Assertions.assertEquals(5, (Integer) InvokeUtils.dynamic(InvokeUtils.getFullAccessLookup())
+                .call(type1, "ido4", 5));
+    }
+
+    @Test
+    public void testGetField() {
+        InvokeDynamic dynamic = InvokeUtils.dynamic(MethodHandles.publicLookup());
+        Type1 type1 = new Type1();
+        Assertions.assertEquals(2, (Integer) dynamic.getField(type1, "I2"));
+        Assertions.assertEquals("I1", dynamic.getField(type1, "I1"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> dynamic.getField(null, "I2"));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> dynamic.getField(type1, null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> dynamic.getField(type1, "I4"));
+        // static fields are not instance fields
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> dynamic.getField(type1, "S2"));
+        Assertions.assertEquals(4L, (Long) InvokeUtils.dynamic(InvokeUtils.getFullAccessLookup())
+                .getField(type1, "I4"));
+    }
+
+    @Test
+    public void testMegamorphic() {
+        InvokeDynamic dynamic = InvokeUtils.dynamic(null);
+        List<Type1> receivers = Arrays.asList(new Type1(), new Type1() {}, new Type1() {}, new Type1() {},
+                new Type1() {}, new Type1() {}, new Type1() {});
+        for (int i = 0; i < 3; ++i) {
+            for (Type1 receiver : receivers) {
+                dynamic.setField(receiver, "I2", i);
+                Assertions.assertEquals(i, (Integer) dynamic.getField(receiver, "I2"));
+                Assertions.assertEquals(i, receiver.I2);
+                Assertions.assertEquals((byte) i, (Byte) dynamic.call(receiver, "ido1", String.valueOf(i)));
+            }
+        }
+    }
+
+    @Test
+    public void testSetField() {
+        InvokeDynamic dynamic = InvokeUtils.dynamic(MethodHandles.publicLookup());
+        Type1 type1 = new Type1();
+        dynamic.setField(type1, "I2", 5);
+        Assertions.assertEquals(5, type1.I2);
+
+        Assertions.assertThrows(ClassCastException.class, ()-> dynamic.setField(type1, "I2", "5"));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> dynamic.setField(null, "I2", 5));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> dynamic.setField(type1, null, 5));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> dynamic.setField(type1, "none", 5));
+    }
+}
@@ -16,6 +16,7 @@
 package net.kemuri9.invoke.test;
 
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
@@ -33,6 +34,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import net.kemuri9.invoke.InvokeExecutable;
+import net.kemuri9.invoke.InvokeRetargetable;
 import net.kemuri9.invoke.InvokeUtils;
 
 import test.Type1;
@@ -110,6 +112,62 @@ public class InvokeExecutableImplTest {
         Assertions.assertThrows(UnsupportedOperationException.class, ()-> exec3.apply(new Object[0]));
     }
 
+    @Test
+    public void testBindArguments() throws Exception {
+        InvokeExecutable<String> concat = InvokeUtils.getMethod(MethodHandles.publicLookup(),
+                String.class.getMethod("concat", String.class));
+        InvokeExecutable<String> prefix = concat.bindArguments(0, "pre");
+        Assertions.assertEquals(MethodType.methodType(String.class, String.class), prefix.getType());
+        Assertions.assertEquals("prefix", prefix.invoke("fix"));
+        Assertions.assertEquals(concat.getName(), prefix.getName());
+        Assertions.assertEquals(concat.getDeclaringClass(), prefix.getDeclaringClass());
+        Assertions.assertEquals(concat.getModifiers(), prefix.getModifiers());
+        Assertions.assertEquals(concat.getExecutable(null), prefix.getExecutable(null));
+
+        InvokeExecutable<String> suffix = concat.bindArguments(1, "fix");
+        Assertions.assertEquals("suffix", suffix.invoke("suf"));
+        InvokeExecutable<String> both = suffix.bindArguments(0, "a");
+        Assertions.assertEquals(MethodType.methodType(String.class), both.getType());
+        Assertions.assertEquals("afix", both.invoke());
+        Assertions.assertSame(concat, concat.bindArguments(0));
+
+        InvokeExecutable<Integer> exec = InvokeUtils.getMethod(MethodHandles.lookup(), METHOD_RETURN_INT_VALUE);
+        Assertions.assertEquals(5, exec.bindArguments(0, 5).invoke());
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> exec.bindArguments(0, (Object[]) null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> exec.bindArguments(-1, 5));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> exec.bindArguments(1, 5));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> exec.bindArguments(0, 5, 6));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> exec.bindArguments(0, "5"));
+
+        InvokeExecutable<String> substring = InvokeUtils.getMethod(MethodHandles.publicLookup(),
+                String.class.getMethod("substring", int.class));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> substring.bindArguments(1, (Object) null));
+    }
+
+    @Test
+    public void testBindTo() throws Exception {
+        InvokeExecutable<String> concat = InvokeUtils.getMethod(MethodHandles.publicLookup(),
+                String.class.getMethod("concat", String.class));
+        InvokeExecutable<String> bound = concat.bindTo("pre");
+        Assertions.assertEquals(MethodType.methodType(String.class, String.class), bound.getType());
+        Assertions.assertEquals("prefix", bound.invoke("fix"));
+        Assertions.assertEquals("prefix", bound.apply(new Object[] { "fix" }));
+        Assertions.assertEquals(concat.toString(), bound.toString());
+        Assertions.assertEquals(concat.getExecutable(null), bound.getExecutable(null));
+        Assertions.assertEquals("prefix", bound.asRetargetable().invoke("fix"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> concat.bindTo(null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> concat.bindTo(5));
+        // the receiver is already bound
+        Assertions.assertThrows(IllegalStateException.class, ()-> bound.bindTo("pre"));
+        Assertions.assertThrows(IllegalStateException.class, ()-> bound.asRetargetable().bindTo("pre"));
+        Assertions.assertThrows(IllegalStateException.class, ()-> concat.bindArguments(0, "pre").bindTo("pre"));
+        Assertions.assertThrows(IllegalStateException.class,
+                ()-> InvokeUtils.getMethod(MethodHandles.lookup(), METHOD_FOO).bindTo(this));
+        Assertions.assertThrows(IllegalStateException.class,
+                ()-> InvokeUtils.getConstructor(MethodHandles.lookup(), CTOR).bindTo(this));
+    }
+
     @ParameterizedTest(name = "testAttributes - " + ParameterizedTest.DEFAULT_DISPLAY_NAME)
     @MethodSource(value = "net.kemuri9.invoke.test.InvokeExecutableImplTest#getExecutables")
     public void testAttributes(Executable executable) throws Exception {
@@ -139,6 +197,56 @@ public class InvokeExecutableImplTest {
         Assertions.assertTrue(exec.invoke() instanceof InvokeExecutableImplTest);
     }
 
+    @Test
+    public void testInvokeBatch() throws Exception {
+        InvokeExecutable<Integer> length = InvokeUtils.getMethod(MethodHandles.publicLookup(),
+                String.class.getMethod("length"));
+        Object[] results = new Object[4];
+        length.invokeBatch(new Object[] { "a", "bb", "ccc" }, results);
+        Assertions.assertArrayEquals(new Object[] { 1, 2, 3, null }, results);
+        // the loop is retained, so a repeated batch reuses it
+        length.invokeBatch(new Object[] { "dddd" }, results);
+        Assertions.assertEquals(4, results[0]);
+
+        InvokeExecutable<?> intValue = InvokeUtils.getMethod(MethodHandles.lookup(), METHOD_RETURN_INT_VALUE);
+        intValue.invokeBatch(new Object[] { 5, 6 }, results);
+        Assertions.assertArrayEquals(new Object[] { 5, 6, 3, null }, results);
+        InvokeRetargetable<Integer> retargetable = length.asRetargetable();
+        retargetable.invokeBatch(new Object[] { "ee" }, results);
+        Assertions.assertEquals(2, results[0]);
+
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> length.invokeBatch(null, results));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> length.invokeBatch(new Object[1], null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> length.invokeBatch(new Object[5], results));
+        Assertions.assertThrows(ClassCastException.class, ()-> length.invokeBatch(new Object[] { 5 }, results));
+        Assertions.assertThrows(NullPointerException.class, ()-> length.invokeBatch(new Object[1], results));
+        InvokeExecutable<?> concat = InvokeUtils.getMethod(MethodHandles.publicLookup(),
+                String.class.getMethod("concat", String.class));
+        Assertions.assertThrows(IllegalStateException.class, ()-> concat.invokeBatch(new Object[1], results));
+        InvokeExecutable<?> throwsIO = InvokeUtils.getMethod(MethodHandles.lookup(), TestUtils.METHOD_THROW_IO_EX);
+        Assertions.assertThrows(IllegalStateException.class, ()-> throwsIO.invokeBatch(new Object[1], results));
+    }
+
+    @Test
+    public void testInvokeBatchRows() throws Exception {
+        InvokeExecutable<String> concat = InvokeUtils.getMethod(MethodHandles.publicLookup(),
+                String.class.getMethod("concat", String.class));
+        Object[] results = new Object[2];
+        concat.invokeBatchRows(new Object[][] { { "a", "b" }, { "c", "d" } }, results);
+        Assertions.assertArrayEquals(new Object[] { "ab", "cd" }, results);
+        concat.asRetargetable().invokeBatchRows(new Object[][] { { "e", "f" } }, results);
+        Assertions.assertEquals("ef", results[0]);
+
+        InvokeExecutable<?> throwsIO = InvokeUtils.getMethod(MethodHandles.lookup(), TestUtils.METHOD_THROW_IO_EX);
+        Assertions.assertThrows(RuntimeException.class, ()-> throwsIO.invokeBatchRows(new Object[][] { {} },
+                results));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> concat.invokeBatchRows(null, results));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> concat.invokeBatchRows(new Object[3][],
+                results));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> concat.invokeBatchRows(
+                new Object[][] { { "a" } }, results));
+    }
+
     @Test
     public void testInvokeInvalid() throws Exception {
         MethodHandles.Lookup lookup = MethodHandles.lookup();
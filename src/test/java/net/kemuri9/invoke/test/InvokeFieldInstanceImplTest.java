@@ -77,6 +77,43 @@ public class InvokeFieldInstanceImplTest {
         Assertions.assertEquals(field.isSynthetic(), invokeField.isSynthetic());
     }
 
+    @Test
+    public void testExtract() {
+        Type1[] source = { new Type1(), new Type1(), new Type1() };
+        for (int idx = 0; idx < source.length; ++idx) {
+            source[idx].I2 = idx + 10;
+        }
+        int[] ints = new int[4];
+        TYPE1_I2.extract(source, ints);
+        Assertions.assertArrayEquals(new int[] { 10, 11, 12, 0 }, ints);
+        long[] longs = new long[3];
+        TYPE1_I2.extract(source, longs);
+        Assertions.assertArrayEquals(new long[] { 10L, 11L, 12L }, longs);
+        double[] doubles = new double[3];
+        TYPE1_I2.extract(source, doubles);
+        Assertions.assertArrayEquals(new double[] { 10.0, 11.0, 12.0 }, doubles);
+        Object[] objects = new Integer[3];
+        TYPE1_I2.extract(source, objects);
+        Assertions.assertArrayEquals(new Integer[] { 10, 11, 12 }, objects);
+        String[] strings = new String[3];
+        TYPE1_I1.extract(source, strings);
+        Assertions.assertArrayEquals(new String[] { "I1", "I1", "I1" }, strings);
+        TYPE1_I2.extract(new Type1[0], new int[0]);
+    }
+
+    @Test
+    public void testExtractInvalid() {
+        Type1[] source = { new Type1(), new Type1() };
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> TYPE1_I2.extract(null, new int[2]));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> TYPE1_I2.extract(source, (int[]) null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> TYPE1_I2.extract(source, new int[1]));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> TYPE1_I1.extract(source, new int[2]));
+        Assertions.assertThrows(NullPointerException.class, ()-> TYPE1_I2.extract(new Type1[] { null },
+                new int[1]));
+        Assertions.assertThrows(ClassCastException.class, ()-> TYPE1_I2.extract(new Object[] { "s" },
+                new int[1]));
+    }
+
     @ParameterizedTest(name = "testGetField - " + ParameterizedTest.DEFAULT_DISPLAY_NAME)
     @MethodSource(value = "net.kemuri9.invoke.test.InvokeFieldInstanceImplTest#getFields")
     public <C> void testGetField(InvokeFieldInstance<C, ?> invokeField) throws Exception {
@@ -108,6 +145,29 @@ public class InvokeFieldInstanceImplTest {
         Assertions.assertEquals(MethodType.methodType(int.class, Type1.class), TYPE1_I2.getType());
     }
 
+    @Test
+    public void testScatter() {
+        Type1[] dest = { new Type1(), new Type1(), new Type1() };
+        TYPE1_I2.scatter(new int[] { 10, 11 }, dest);
+        Assertions.assertEquals(10, dest[0].I2);
+        Assertions.assertEquals(11, dest[1].I2);
+        Assertions.assertEquals(2, dest[2].I2);
+        TYPE1_I2.scatter(new Object[] { 20, 21, 22 }, dest);
+        Assertions.assertEquals(22, dest[2].I2);
+
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> TYPE1_I2.scatter((int[]) null, dest));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> TYPE1_I2.scatter(new int[1], null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> TYPE1_I2.scatter(new int[4], dest));
+        // long does not narrow to int
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> TYPE1_I2.scatter(new long[1], dest));
+        if (TestUtils.isJava8()) {
+            Assertions.assertThrows(IllegalStateException.class, ()-> TYPE1_I1.scatter(new Object[1], dest));
+        } else {
+            Assertions.assertThrows(UnsupportedOperationException.class, ()-> TYPE1_I1.scatter(new Object[1], dest));
+        }
+        Assertions.assertThrows(NullPointerException.class, ()-> TYPE1_I2.scatter(new int[1], new Type1[1]));
+    }
+
     @Test
     public void testSetter() throws Throwable {
         BiConsumer<Type1, Integer> checkAssignment = (instance, check) -> {
@@ -172,6 +232,24 @@ public class InvokeFieldInstanceImplTest {
         checkAssignment.accept(instance, val);
     }
 
+    @Test
+    public void testSetterFinalAccessRepeated() throws Throwable {
+        // resolving the same final field repeatedly must keep each access level's own abilities
+        Type1 instance = new Type1();
+        for (int idx = 0; idx < 3; ++idx) {
+            InvokeFieldInstance<Type1, String> field = InvokeUtils.getField(InvokeUtils.getFullAccessLookup(),
+                    Type1.class.getField("I1")).asInstance();
+            String val = RandomStringUtils.random(5);
+            field.accept(instance, val);
+            Assertions.assertSame(val, instance.I1);
+        }
+        if (!TestUtils.isJava8()) {
+            InvokeFieldInstance<Type1, String> field = InvokeUtils.getField(MethodHandles.publicLookup(),
+                    Type1.class.getField("I1")).asInstance();
+            Assertions.assertThrows(UnsupportedOperationException.class, ()-> field.accept(instance, "some"));
+        }
+    }
+
     @Test
     public void testSetterInvalid() {
         InvokeFieldInstance<Type1, Long> invalid1 = TYPE1_I2.asInstance();
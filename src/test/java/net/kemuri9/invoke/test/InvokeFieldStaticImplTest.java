@@ -18,6 +18,7 @@ package net.kemuri9.invoke.test;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -38,6 +39,17 @@ import test.Type1;
 
 public class InvokeFieldStaticImplTest {
 
+    public static class Race {
+        public static Integer R0 = 0;
+        public static Integer R1 = 0;
+        public static Integer R2 = 0;
+        public static Integer R3 = 0;
+        public static Integer R4 = 0;
+        public static Integer R5 = 0;
+        public static Integer R6 = 0;
+        public static Integer R7 = 0;
+    }
+
     private static InvokeFieldStatic<String> TYPE1_S1;
     private static InvokeFieldStatic<String> TYPE1_S1_2;
     private static InvokeFieldStatic<String> TYPE1_S2;
@@ -70,6 +82,61 @@ public class InvokeFieldStaticImplTest {
         Assertions.assertThrows(IllegalStateException.class, ()-> TYPE1_S1.asInstance());
     }
 
+    @Test
+    public void testAsStable() throws Throwable {
+        InvokeFieldStatic<String> stable = TYPE1_S2.asStable();
+        Assertions.assertSame(stable, stable.asStable());
+        Assertions.assertEquals(TYPE1_S2.getType(), stable.getType());
+        Assertions.assertSame(Type1.S2, stable.get());
+
+        try {
+            // writes through the original field are observed
+            String val = RandomStringUtils.random(5);
+            TYPE1_S2.accept(val);
+            Assertions.assertSame(val, stable.get());
+            Assertions.assertSame(val, stable.getGetterHandle().invoke());
+
+            // writes through the stable field are observed by both
+            val = RandomStringUtils.random(5);
+            stable.accept(val);
+            Assertions.assertSame(val, Type1.S2);
+            Assertions.assertSame(val, stable.get());
+            Assertions.assertSame(val, TYPE1_S2.asStable().get());
+
+            // writes outside of the library are not observed
+            Type1.S2 = "direct";
+            Assertions.assertSame(val, stable.get());
+        } finally {
+            TYPE1_S2.accept("S2");
+        }
+        Assertions.assertSame("S2", stable.get());
+    }
+
+    @Test
+    public void testAsStableConcurrentWrite() throws Throwable {
+        // writes occurring while the stable site is being registered must still be observed
+        for (Field field : Race.class.getFields()) {
+            InvokeFieldStatic<Integer> invokeField =
+                    InvokeUtils.getField(MethodHandles.publicLookup(), field).asStatic();
+            CountDownLatch start = new CountDownLatch(1);
+            Thread writer = new Thread(()-> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int idx = 1; idx <= 10_000; ++idx) {
+                    invokeField.accept(idx);
+                }
+            });
+            writer.start();
+            start.countDown();
+            InvokeFieldStatic<Integer> stable = invokeField.asStable();
+            writer.join();
+            Assertions.assertEquals(10_000, stable.get());
+        }
+    }
+
     @Test
     public void testAsStatic() {
         Assertions.assertSame(TYPE1_S1_2, TYPE1_S1_2.asStatic());
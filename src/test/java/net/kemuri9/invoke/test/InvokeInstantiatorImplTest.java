@@ -0,0 +1,78 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke.test;
+
+import java.lang.annotation.ElementType;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.kemuri9.invoke.InvokeInstantiator;
+import net.kemuri9.invoke.InvokeUtils;
+
+import test.IFace1;
+import test.Order;
+import test.Type1;
+
+public class InvokeInstantiatorImplTest {
+
+    @Test
+    public void testAllocating() {
+        InvokeInstantiator<Order.Address> instantiator = InvokeUtils.instantiator(MethodHandles.publicLookup(),
+                Order.Address.class);
+        Assertions.assertFalse(instantiator.isConstructing());
+        Assertions.assertEquals(Order.Address.class, instantiator.getType());
+        Assertions.assertEquals(MethodType.methodType(Order.Address.class), instantiator.getHandle().type());
+        Order.Address address = instantiator.get();
+        Assertions.assertNotNull(address);
+        Assertions.assertNotSame(address, instantiator.get());
+        // no constructor was ran, so the fields hold their default values
+        Assertions.assertNull(address.getCity());
+        Assertions.assertEquals(0, address.getNumber());
+    }
+
+    @Test
+    public void testCached() {
+        Assertions.assertSame(InvokeUtils.instantiator(null, Type1.class), InvokeUtils.instantiator(null, Type1.class));
+        Assertions.assertNotSame(InvokeUtils.instantiator(MethodHandles.publicLookup(), Type1.class),
+                InvokeUtils.instantiator(InvokeUtils.getFullAccessLookup(), Type1.class));
+    }
+
+    @Test
+    public void testConstructing() {
+        InvokeInstantiator<Type1> instantiator = InvokeUtils.instantiator(MethodHandles.publicLookup(), Type1.class);
+        Assertions.assertTrue(instantiator.isConstructing());
+        Assertions.assertEquals(Type1.class, instantiator.getType());
+        Type1 type1 = instantiator.get();
+        Assertions.assertNotNull(type1);
+        Assertions.assertNotSame(type1, instantiator.get());
+        Assertions.assertEquals("I1", type1.I1);
+        Assertions.assertEquals(2, type1.I2);
+    }
+
+    @Test
+    public void testInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.instantiator(null, null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.instantiator(null, IFace1.class));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.instantiator(null, Number.class));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.instantiator(null, int.class));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.instantiator(null, int[].class));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                ()-> InvokeUtils.instantiator(null, ElementType.class));
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke.test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.kemuri9.invoke.InvokeMapper;
+import net.kemuri9.invoke.InvokeUtils;
+
+import test.Order;
+import test.Type1;
+
+public class InvokeMapperImplTest {
+
+    @Test
+    public void testCached() {
+        Assertions.assertSame(InvokeUtils.getMapper(null, Type1.class), InvokeUtils.getMapper(null, Type1.class));
+        Assertions.assertNotSame(InvokeUtils.getMapper(MethodHandles.publicLookup(), Type1.class),
+                InvokeUtils.getMapper(InvokeUtils.getFullAccessLookup(), Type1.class));
+    }
+
+    @Test
+    public void testFill() {
+        InvokeMapper<Order.Address> mapper = InvokeUtils.getMapper(InvokeUtils.getFullAccessLookup(),
+                Order.Address.class);
+        Assertions.assertEquals(Arrays.asList("city", "number", "country"), mapper.getWritableNames());
+        Order.Address address = new Order.Address("city", 5);
+        Map<String, Object> values = new HashMap<>();
+        values.put("city", "other");
+        values.put("country", "US");
+        values.put("none", "ignored");
+        Assertions.assertSame(address, mapper.fill(address, values));
+        Assertions.assertEquals("other", address.getCity());
+        Assertions.assertEquals(5, address.getNumber());
+        Assertions.assertEquals("US", mapper.toMap(address).get("country"));
+
+        values.put("city", null);
+        mapper.fill(address, values);
+        Assertions.assertNull(address.getCity());
+
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> mapper.fill(null, values));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> mapper.fill(address, null));
+        Assertions.assertThrows(ClassCastException.class, ()-> mapper.fill(address,
+                Collections.singletonMap("number", "5")));
+        Assertions.assertThrows(NullPointerException.class, ()-> mapper.fill(address,
+                Collections.singletonMap("number", null)));
+    }
+
+    @Test
+    public void testFillPublic() {
+        InvokeMapper<Type1> mapper = InvokeUtils.getMapper(MethodHandles.publicLookup(), Type1.class);
+        Assertions.assertEquals(Arrays.asList("I1", "I2"), mapper.getNames());
+        // final fields are written through the full access lookup
+        Assertions.assertEquals(Arrays.asList("I1", "I2"), mapper.getWritableNames());
+        Type1 type1 = new Type1();
+        mapper.fill(type1, Collections.singletonMap("I2", 7));
+        Assertions.assertEquals(7, type1.I2);
+    }
+
+    @Test
+    public void testToMap() {
+        InvokeMapper<Order.Address> mapper = InvokeUtils.getMapper(InvokeUtils.getFullAccessLookup(),
+                Order.Address.class);
+        Assertions.assertEquals(Order.Address.class, mapper.getType());
+        Assertions.assertEquals(Arrays.asList("city", "number", "country"), mapper.getNames());
+        Map<String, Object> map = mapper.toMap(new Order.Address("city", 5));
+        Assertions.assertEquals(Arrays.asList("city", "number", "country"), Arrays.asList(map.keySet().toArray()));
+        Assertions.assertEquals("city", map.get("city"));
+        Assertions.assertEquals(5, map.get("number"));
+        Assertions.assertEquals("CA", map.get("country"));
+        // the result is modifiable
+        map.put("extra", 1);
+
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> mapper.toMap(null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.getMapper(null, null));
+    }
+}
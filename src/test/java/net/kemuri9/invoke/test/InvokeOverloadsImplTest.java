@@ -0,0 +1,116 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke.test;
+
+import java.lang.invoke.MethodHandles;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.kemuri9.invoke.InvokeOverloads;
+import net.kemuri9.invoke.InvokeUtils;
+
+import test.Overloaded;
+
+public class InvokeOverloadsImplTest {
+
+    @Test
+    public void testCandidates() {
+        InvokeOverloads<String> overloads = InvokeUtils.getOverloads(MethodHandles.publicLookup(), Overloaded.Sub.class, "h");
+        Assertions.assertEquals(Overloaded.Sub.class, overloads.getDeclaringClass());
+        Assertions.assertEquals("h", overloads.getName());
+        // Overloaded.h(String) is overridden by Sub.h(String)
+        Assertions.assertEquals(2, overloads.getCandidates().size());
+        Assertions.assertEquals(4, InvokeUtils.getOverloads(null, Overloaded.class, "f").getCandidates().size());
+    }
+
+    @Test
+    public void testGetOverloadsInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.getOverloads(null, null, "f"));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.getOverloads(null, Overloaded.class, null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.getOverloads(null, Overloaded.class, "none"));
+    }
+
+    @Test
+    public void testInvoke() throws Throwable {
+        InvokeOverloads<String> f = InvokeUtils.getOverloads(MethodHandles.publicLookup(), Overloaded.class, "f");
+        for (int i = 0; i < 3; ++i) {
+            Assertions.assertEquals("String", f.invoke("s"));
+            Assertions.assertEquals("Number", f.invoke(1));
+            Assertions.assertEquals("Number", f.invoke(1L));
+            Assertions.assertEquals("Object", f.invoke(new Object()));
+            Assertions.assertEquals("Object", f.invoke(true));
+            Assertions.assertEquals("Object,Object", f.invoke(1, "s"));
+            Assertions.assertEquals("String", (Object) f.getHandle().invokeExact(new Object[] { "s" }));
+        }
+        // null is applicable to String and Number, neither being more specific
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> f.invoke((Object) null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> f.invoke());
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> f.apply(null));
+
+        InvokeOverloads<String> g = InvokeUtils.getOverloads(MethodHandles.publicLookup(), Overloaded.class, "g");
+        Assertions.assertEquals("int", g.invoke(1));
+        Assertions.assertEquals("int", g.invoke((short) 1));
+        Assertions.assertEquals("int", g.invoke('c'));
+        Assertions.assertEquals("long", g.invoke(1L));
+        Assertions.assertEquals("double", g.invoke(1f));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> g.invoke((Object) null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> g.invoke("1"));
+
+        InvokeOverloads<String> k = InvokeUtils.getOverloads(MethodHandles.publicLookup(), Overloaded.class, "k");
+        Assertions.assertEquals("Object,String", k.invoke(1, "s"));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> k.invoke("s", "s"));
+    }
+
+    @Test
+    public void testInvokeInstance() {
+        InvokeOverloads<String> h = InvokeUtils.getOverloads(MethodHandles.publicLookup(), Overloaded.Sub.class, "h");
+        Overloaded sub = new Overloaded.Sub();
+        Assertions.assertEquals("Sub.String", h.invoke(sub, "s"));
+        Assertions.assertEquals("CharSequence", h.invoke(sub, new StringBuilder()));
+        // Sub.h(String) requires a Sub instance
+        Assertions.assertEquals("CharSequence", h.invoke(new Overloaded(), "s"));
+
+        // the receiver does not factor into specificity, so Overloaded.m(String) is selected over Sub.m(Object)
+        InvokeOverloads<String> m = InvokeUtils.getOverloads(MethodHandles.publicLookup(), Overloaded.Sub.class, "m");
+        Assertions.assertEquals("String", m.invoke(sub, "s"));
+        Assertions.assertEquals("Sub.Object", m.invoke(sub, 1));
+    }
+
+    @Test
+    public void testInvokeMegamorphic() {
+        InvokeOverloads<String> f = InvokeUtils.getOverloads(MethodHandles.publicLookup(), Overloaded.class, "f");
+        Object[] args = { 1, 2L, 3f, 4d, (byte) 5, (short) 6, 'c', true, "s", new Object(), new StringBuilder(),
+                new int[0], 1.5, 7, 8L };
+        for (int i = 0; i < 3; ++i) {
+            for (Object arg : args) {
+                String expected = (arg instanceof Number) ? "Number" : (arg instanceof String) ? "String" : "Object";
+                Assertions.assertEquals(expected, f.invoke(arg));
+            }
+        }
+    }
+
+    @Test
+    public void testSelect() throws Exception {
+        InvokeOverloads<String> f = InvokeUtils.getOverloads(MethodHandles.publicLookup(), Overloaded.class, "f");
+        Assertions.assertEquals(Overloaded.class.getMethod("f", Number.class), f.select(Integer.class).getExecutable(null));
+        Assertions.assertEquals(Overloaded.class.getMethod("f", String.class), f.select(String.class).getExecutable(null));
+        Assertions.assertEquals(Overloaded.class.getMethod("f", Object.class, Object.class),
+                f.select(null, null).getExecutable(null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> f.select((Class<?>[]) null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> f.select(String.class, String.class, String.class));
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke.test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.kemuri9.invoke.InvokePath;
+import net.kemuri9.invoke.InvokeUtils;
+
+import test.Order;
+
+public class InvokePathImplTest {
+
+    private static Order newOrder() {
+        return new Order(new Order.Customer("name", new Order.Address("city", 5)));
+    }
+
+    @Test
+    public void testApply() throws Throwable {
+        InvokePath<Order, String> path = InvokeUtils.path(InvokeUtils.getFullAccessLookup(), Order.class,
+                "customer.address.city");
+        Assertions.assertEquals(Order.class, path.getRootType());
+        Assertions.assertEquals("customer.address.city", path.getPath());
+        Assertions.assertEquals(String.class, path.getType());
+        Assertions.assertEquals(3, path.getFields().size());
+        Assertions.assertEquals("address", path.getFields().get(1).getName());
+        Assertions.assertEquals(MethodType.methodType(String.class, Order.class), path.getGetterHandle().type());
+
+        Order order = newOrder();
+        Assertions.assertEquals("city", path.apply(order));
+        Assertions.assertEquals("city", (String) path.getGetterHandle().invokeExact(order));
+        Assertions.assertEquals("name", InvokeUtils.path(InvokeUtils.getFullAccessLookup(), Order.class, "customer.name")
+                .apply(order));
+    }
+
+    @Test
+    public void testApplyNull() throws Throwable {
+        InvokePath<Order, Integer> path = InvokeUtils.path(InvokeUtils.getFullAccessLookup(), Order.class,
+                "customer.address.number");
+        Assertions.assertEquals(Integer.class, path.getType());
+        Assertions.assertEquals(5, path.apply(newOrder()));
+        Assertions.assertNull(path.apply(null));
+        Assertions.assertNull(path.apply(new Order(null)));
+        Assertions.assertNull(path.apply(new Order(new Order.Customer("name", null))));
+        Assertions.assertNull((Integer) path.getGetterHandle().invokeExact(new Order(null)));
+    }
+
+    @Test
+    public void testAccept() throws Throwable {
+        InvokePath<Order, String> path = InvokeUtils.path(InvokeUtils.getFullAccessLookup(), Order.class,
+                "customer.address.city");
+        Assertions.assertTrue(path.isWritable());
+        Order order = newOrder();
+        path.accept(order, "other");
+        Assertions.assertEquals("other", path.apply(order));
+        path.getSetterHandle().invokeExact(order, "again");
+        Assertions.assertEquals("again", path.apply(order));
+
+        InvokePath<Order, Integer> number = InvokeUtils.path(InvokeUtils.getFullAccessLookup(), Order.class,
+                "customer.address.number");
+        number.accept(order, 7);
+        Assertions.assertEquals(7, number.apply(order));
+
+        InvokePath<Order, Integer> count = InvokeUtils.path(null, Order.class, "count");
+        count.accept(order, 3);
+        Assertions.assertEquals(3, order.count);
+
+        Assertions.assertThrows(NullPointerException.class, ()-> path.accept(new Order(null), "city"));
+        Assertions.assertThrows(ClassCastException.class, ()-> InvokeUtils.<Order, Object>path(
+                InvokeUtils.getFullAccessLookup(), Order.class, "customer.address.city").accept(order, 5));
+    }
+
+    @Test
+    public void testCached() {
+        Assertions.assertSame(InvokeUtils.path(InvokeUtils.getFullAccessLookup(), Order.class, "customer.name"),
+                InvokeUtils.path(InvokeUtils.getFullAccessLookup(), Order.class, "customer.name"));
+        Assertions.assertNotSame(InvokeUtils.path(InvokeUtils.getFullAccessLookup(), Order.class, "customer.name"),
+                InvokeUtils.path(MethodHandles.publicLookup(), Order.class, "count"));
+    }
+
+    @Test
+    public void testInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.path(null, null, "count"));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.path(null, Order.class, null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.path(null, Order.class, ""));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.path(null, Order.class, "count."));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.path(null, Order.class,
+                "count.value"));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.path(null, Order.class, "none"));
+        // not accessible with the public lookup
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.path(MethodHandles.publicLookup(),
+                Order.class, "customer.name"));
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke.test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.kemuri9.invoke.InvokeExecutable;
+import net.kemuri9.invoke.InvokeField;
+import net.kemuri9.invoke.InvokeProperty;
+import net.kemuri9.invoke.InvokeUtils;
+
+import test.Bean1;
+
+public class InvokePropertyImplTest {
+
+    @SuppressWarnings("unchecked")
+    private static <C, T> InvokeProperty<C, T> cast(InvokeProperty<?, ?> property) {
+        return (InvokeProperty<C, T>) property;
+    }
+
+    private static Map<String, InvokeProperty<Bean1, ?>> getFullAccessProperties() {
+        return InvokeUtils.getProperties(InvokeUtils.getFullAccessLookup(), Bean1.class);
+    }
+
+    private static <T> InvokeProperty<Bean1, T> getProperty(Map<String, InvokeProperty<Bean1, ?>> props, String name) {
+        InvokeProperty<Bean1, ?> property = props.get(name);
+        Assertions.assertNotNull(property, ()-> name + " not found in " + props.keySet());
+        @SuppressWarnings("unchecked")
+        InvokeProperty<Bean1, T> cast = (InvokeProperty<Bean1, T>) property;
+        return cast;
+    }
+
+    @Test
+    public void testCached() {
+        Assertions.assertSame(getFullAccessProperties(), getFullAccessProperties());
+        Assertions.assertSame(InvokeUtils.getProperties(null, Bean1.class),
+                InvokeUtils.getProperties(MethodHandles.publicLookup(), Bean1.class));
+    }
+
+    @Test
+    public void testFieldFallback() {
+        Map<String, InvokeProperty<Bean1, ?>> props = getFullAccessProperties();
+        Bean1 bean = new Bean1();
+
+        // setter is backed by the field
+        InvokeProperty<Bean1, Integer> count = getProperty(props, "count");
+        Assertions.assertTrue(count.getSetter() instanceof InvokeField);
+        count.accept(bean, 5);
+        Assertions.assertEquals(5, bean.getCount());
+
+        // getter is backed by the field
+        InvokeProperty<Bean1, Object> writeOnly = getProperty(props, "writeOnly");
+        Assertions.assertTrue(writeOnly.getGetter() instanceof InvokeField);
+        Object value = new Object();
+        writeOnly.accept(bean, value);
+        Assertions.assertSame(value, writeOnly.apply(bean));
+
+        // final fields do not back setters
+        InvokeProperty<Bean1, Long> id = getProperty(props, "id");
+        Assertions.assertTrue(id.isReadable());
+        Assertions.assertFalse(id.isWritable());
+        Assertions.assertNull(id.getSetterHandle());
+        Assertions.assertThrows(IllegalStateException.class, ()-> id.accept(bean, 5L));
+    }
+
+    @Test
+    public void testNames() {
+        Assertions.assertEquals(Arrays.asList("URL", "active", "count", "id", "name", "writeOnly"),
+                new ArrayList<>(getFullAccessProperties().keySet()));
+        // private fields are not accessible publicly, so those backed properties are incomplete
+        Map<String, InvokeProperty<Bean1, ?>> props = InvokeUtils.getProperties(null, Bean1.class);
+        Assertions.assertEquals(Arrays.asList("URL", "active", "count", "id", "name", "writeOnly"),
+                new ArrayList<>(props.keySet()));
+        Assertions.assertFalse(props.get("count").isWritable());
+        Assertions.assertFalse(props.get("writeOnly").isReadable());
+        Assertions.assertThrows(IllegalStateException.class, ()-> props.get("writeOnly").apply(new Bean1()));
+    }
+
+    @Test
+    public void testNull() {
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.getProperties(null, null));
+    }
+
+    @Test
+    public void testReadWrite() throws Throwable {
+        Map<String, InvokeProperty<Bean1, ?>> props = getFullAccessProperties();
+        Bean1 bean = new Bean1(7);
+
+        InvokeProperty<Bean1, String> name = getProperty(props, "name");
+        Assertions.assertEquals(String.class, name.getType());
+        Assertions.assertTrue(name.getGetter() instanceof InvokeExecutable);
+        Assertions.assertTrue(name.getSetter() instanceof InvokeExecutable);
+        Assertions.assertEquals(MethodType.methodType(String.class, Bean1.class), name.getGetterHandle().type());
+        Assertions.assertEquals(MethodType.methodType(void.class, Bean1.class, String.class),
+                name.getSetterHandle().type());
+        name.accept(bean, "bean");
+        Assertions.assertEquals("bean", bean.getName());
+        Assertions.assertEquals("bean", name.apply(bean));
+        Assertions.assertEquals("bean", (String) name.getGetterHandle().invokeExact(bean));
+
+        InvokeProperty<Bean1, Boolean> active = getProperty(props, "active");
+        Assertions.assertEquals(boolean.class, active.getType());
+        active.accept(bean, true);
+        Assertions.assertTrue(bean.isActive());
+        Assertions.assertEquals(Boolean.TRUE, active.apply(bean));
+
+        InvokeProperty<Bean1, Long> id = getProperty(props, "id");
+        Assertions.assertEquals(7L, id.apply(bean));
+
+        // the setter matching the getter's type is the one utilized
+        InvokeProperty<Bean1, String> url = getProperty(props, "URL");
+        Assertions.assertEquals(String.class, url.getType());
+        url.accept(bean, "http://localhost");
+        Assertions.assertEquals("http://localhost", url.apply(bean));
+    }
+
+    @Test
+    public void testReadWriteInvalid() {
+        InvokeProperty<Bean1, ?> name = getFullAccessProperties().get("name");
+        InvokeProperty<Object, Object> raw = cast(name);
+        Assertions.assertThrows(ClassCastException.class, ()-> raw.accept(new Bean1(), 5));
+        Assertions.assertThrows(ClassCastException.class, ()-> raw.apply("not a bean"));
+    }
+}
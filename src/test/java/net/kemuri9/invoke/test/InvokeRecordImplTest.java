@@ -0,0 +1,123 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke.test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.nio.file.attribute.GroupPrincipal;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import net.kemuri9.invoke.InvokeExecutable;
+import net.kemuri9.invoke.InvokeRecord;
+import net.kemuri9.invoke.InvokeUtils;
+
+/**
+ * Records cannot be declared by tests that compile for Java 8,
+ * so use {@code jdk.net.UnixDomainPrincipal(UserPrincipal user, GroupPrincipal group)} from the JDK
+ */
+public class InvokeRecordImplTest {
+
+    private static InvokeRecord<Object> RECORD;
+
+    private static final UserPrincipal USER1 = ()-> "user1";
+    private static final UserPrincipal USER2 = ()-> "user2";
+    private static final GroupPrincipal GROUP1 = ()-> "group1";
+    private static final GroupPrincipal GROUP2 = ()-> "group2";
+
+    @BeforeAll
+    public static void beforeAll() throws IllegalAccessException {
+        Assumptions.assumeTrue(TestUtils.isAtLeastJava(16), "records require java 16");
+        Class<Object> type;
+        try {
+            @SuppressWarnings("unchecked")
+            Class<Object> recordType = (Class<Object>) Class.forName("jdk.net.UnixDomainPrincipal");
+            type = recordType;
+        } catch (ClassNotFoundException ex) {
+            Assumptions.abort("jdk.net is not available");
+            return;
+        }
+        RECORD = InvokeUtils.getRecord(null, type);
+    }
+
+    private static Object newRecord(UserPrincipal user, GroupPrincipal group) {
+        return RECORD.getConstructor().invoke(user, group);
+    }
+
+    @Test
+    public void testAccessors() {
+        Object record = newRecord(USER1, GROUP1);
+        Assertions.assertEquals(Arrays.asList("user", "group"), RECORD.getComponentNames());
+        Assertions.assertEquals(2, RECORD.getAccessors().size());
+        Assertions.assertSame(USER1, RECORD.getAccessors().get(0).invoke(record));
+        Assertions.assertSame(GROUP1, RECORD.getAccessors().get(1).invoke(record));
+        InvokeExecutable<GroupPrincipal> group = RECORD.getAccessor("group");
+        Assertions.assertSame(GROUP1, group.invoke(record));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> RECORD.getAccessor("other"));
+    }
+
+    @Test
+    public void testCached() throws IllegalAccessException {
+        Assertions.assertSame(RECORD, InvokeUtils.getRecord(null, RECORD.getType()));
+        Assertions.assertSame(RECORD.getWither("user"), RECORD.getWither("user"));
+    }
+
+    @Test
+    public void testGetComponents() {
+        Object record = newRecord(USER1, GROUP1);
+        Assertions.assertArrayEquals(new Object[] { USER1, GROUP1 }, RECORD.getComponents(record));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> RECORD.getComponents(null));
+    }
+
+    @Test
+    public void testGetWither() throws Throwable {
+        Object record = newRecord(USER1, GROUP1);
+        MethodHandle wither = RECORD.getWither("group", "user");
+        Assertions.assertEquals(MethodType.methodType(RECORD.getType(), RECORD.getType(),
+                GroupPrincipal.class, UserPrincipal.class), wither.type());
+        Object copy = wither.invoke(record, GROUP2, USER2);
+        Assertions.assertArrayEquals(new Object[] { USER2, GROUP2 }, RECORD.getComponents(copy));
+        // original is unchanged
+        Assertions.assertArrayEquals(new Object[] { USER1, GROUP1 }, RECORD.getComponents(record));
+    }
+
+    @Test
+    public void testGetWitherInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> RECORD.getWither());
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> RECORD.getWither((String[]) null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> RECORD.getWither("other"));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> RECORD.getWither("user", "user"));
+    }
+
+    @Test
+    public void testWith() {
+        Object record = newRecord(USER1, GROUP1);
+        Object copy = RECORD.with(record, "user", USER2);
+        Assertions.assertArrayEquals(new Object[] { USER2, GROUP1 }, RECORD.getComponents(copy));
+        Assertions.assertThrows(ClassCastException.class, ()-> RECORD.with(record, "group", "invalid"));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> RECORD.with(null, "group", GROUP2));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> RECORD.with(record, null, GROUP2));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> RECORD.with(record, "other", GROUP2));
+        // the wither of a component is retained between calls
+        Assertions.assertArrayEquals(new Object[] { USER1, GROUP2 },
+                RECORD.getComponents(RECORD.with(RECORD.with(copy, "group", GROUP2), "user", USER1)));
+    }
+}
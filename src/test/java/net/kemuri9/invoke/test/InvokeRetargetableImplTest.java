@@ -0,0 +1,117 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke.test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.kemuri9.invoke.InvokeExecutable;
+import net.kemuri9.invoke.InvokeRetargetable;
+import net.kemuri9.invoke.InvokeUtils;
+
+public class InvokeRetargetableImplTest {
+
+    public static Integer increment(Integer val) {
+        return val + 1;
+    }
+
+    public static Integer decrement(Integer val) {
+        return val - 1;
+    }
+
+    public static String describe(Object val) {
+        return String.valueOf(val);
+    }
+
+    private static InvokeExecutable<Integer> getMethod(String name) throws Exception {
+        return InvokeUtils.getMethod(MethodHandles.lookup(),
+                InvokeRetargetableImplTest.class.getMethod(name, Integer.class));
+    }
+
+    @Test
+    public void testAsRetargetable() throws Exception {
+        InvokeExecutable<Integer> inc = getMethod("increment");
+        InvokeRetargetable<Integer> exec = inc.asRetargetable();
+        Assertions.assertSame(exec, exec.asRetargetable());
+        Assertions.assertSame(inc, exec.getTarget());
+        Assertions.assertEquals(inc.getType(), exec.getType());
+        Assertions.assertEquals(inc.getName(), exec.getName());
+        Assertions.assertEquals(inc.getDeclaringClass(), exec.getDeclaringClass());
+        Assertions.assertEquals(inc.getModifiers(), exec.getModifiers());
+        Assertions.assertEquals(inc.isSynthetic(), exec.isSynthetic());
+        Assertions.assertEquals(inc.toString(), exec.toString());
+        Assertions.assertEquals(inc.getExecutable(null), exec.getExecutable(null));
+        Assertions.assertEquals(6, exec.invoke(5));
+        Assertions.assertEquals(6, exec.apply(new Object[] { 5 }));
+    }
+
+    @Test
+    public void testAsRetargetableVarargs() throws Throwable {
+        InvokeExecutable<String> format = InvokeUtils.getMethod(MethodHandles.publicLookup(),
+                String.class.getMethod("format", String.class, Object[].class));
+        Assertions.assertTrue(format.getHandle().isVarargsCollector());
+        InvokeRetargetable<String> exec = format.asRetargetable();
+        Assertions.assertTrue(exec.getHandle().isVarargsCollector());
+        Assertions.assertEquals("1-2", exec.getHandle().invoke("%s-%s", 1, 2));
+        Assertions.assertEquals("1-2", exec.invoke("%s-%s", 1, 2));
+    }
+
+    @Test
+    public void testRetarget() throws Throwable {
+        InvokeExecutable<Integer> inc = getMethod("increment");
+        InvokeExecutable<Integer> dec = getMethod("decrement");
+        InvokeRetargetable<Integer> exec = inc.asRetargetable();
+        MethodHandle handle = exec.getHandle();
+        Assertions.assertEquals(6, (Integer) handle.invokeExact((Integer) 5));
+
+        Assertions.assertSame(inc, exec.retarget(dec));
+        Assertions.assertSame(dec, exec.getTarget());
+        Assertions.assertEquals("decrement", exec.getName());
+        // previously retrieved handles observe the new target
+        Assertions.assertEquals(4, (Integer) handle.invokeExact((Integer) 5));
+        Assertions.assertEquals(4, exec.invoke(5));
+
+        Assertions.assertSame(dec, exec.retarget(inc));
+        Assertions.assertEquals(6, (Integer) handle.invokeExact((Integer) 5));
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    public void testRetargetAdapts() throws Exception {
+        InvokeRetargetable exec = getMethod("increment").asRetargetable();
+        InvokeExecutable<String> describe = InvokeUtils.getMethod(MethodHandles.lookup(),
+                InvokeRetargetableImplTest.class.getMethod("describe", Object.class));
+        exec.retarget(describe);
+        Assertions.assertEquals(MethodType.methodType(Integer.class, Integer.class), exec.getType());
+        // describe returns a String which does not adapt to Integer
+        Assertions.assertThrows(ClassCastException.class, ()-> exec.invoke(5));
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    public void testRetargetInvalid() throws Exception {
+        InvokeRetargetable<Integer> exec = getMethod("increment").asRetargetable();
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> exec.retarget(null));
+        InvokeExecutable foo = InvokeUtils.getMethod(MethodHandles.lookup(),
+                InvokeExecutableImplTest.class.getMethod("foo"));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> exec.retarget(foo));
+        Assertions.assertEquals(6, exec.invoke(5));
+    }
+}
@@ -292,6 +292,20 @@ public class InvokeUtilsTest {
         checkCtors(ctors, Meta.getMeta(type).constructors);
     }
 
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testGetConstructorsBindTo() {
+        /* constructors have no receiver, whether resolved by reflection or by the lookup variation.
+         * reading the declared constructors of a JDK type is blocked by the security manager,
+         * so under it these are resolved by the lookup variation */
+        List<InvokeExecutable<ArrayList>> ctors =
+                InvokeUtils.getConstructors(InvokeUtils.getFullAccessLookup(), ArrayList.class);
+        Assertions.assertFalse(ctors.isEmpty());
+        for (InvokeExecutable<ArrayList> ctor : ctors) {
+            Assertions.assertThrows(IllegalStateException.class, ()-> ctor.bindTo(new ArrayList<>()));
+        }
+    }
+
     @ParameterizedTest(name = "testGetConstructorsNull - " + ParameterizedTest.DEFAULT_DISPLAY_NAME)
     @MethodSource(value = "net.kemuri9.invoke.test.InvokeUtilsTest#getLookups")
     public void testGetConstructorsNull(MethodHandles.Lookup lookup) {
@@ -414,6 +428,14 @@ public class InvokeUtilsTest {
         checkFields(fields, expectedFields, true);
     }
 
+    @Test
+    public void testGetFullAccessReport() {
+        InvokeUtils.getFullAccessLookup();
+        String report = InvokeUtils.getFullAccessReport();
+        Assertions.assertNotNull(report);
+        Assertions.assertTrue(report.contains("succeeded"), report);
+    }
+
     @ParameterizedTest(name = "testGetMethodFullAccess - " + ParameterizedTest.DEFAULT_DISPLAY_NAME)
     @MethodSource(value = "net.kemuri9.invoke.test.InvokeUtilsTest#getFullAccessLookups")
     public void testGetMethodFullAccess(MethodHandles.Lookup lookup, Class<?> type)
@@ -607,6 +629,32 @@ public class InvokeUtilsTest {
         checkNestedTypes(types, expectedTypes, true);
     }
 
+    @ParameterizedTest(name = "testGetNestedTypesRepeated - " + ParameterizedTest.DEFAULT_DISPLAY_NAME)
+    @MethodSource(value = "net.kemuri9.invoke.test.InvokeUtilsTest#getFullAccessLookups")
+    public void testGetNestedTypesRepeated(MethodHandles.Lookup lookup, Class<?> type) {
+        List<Member> types = InvokeUtils.getNestedTypes(lookup, type, true);
+        List<Member> expected = new ArrayList<>(types);
+        types.clear();
+        List<Member> repeated = InvokeUtils.getNestedTypes(lookup, type, true);
+        Assertions.assertNotSame(types, repeated);
+        Assertions.assertEquals(expected, repeated);
+    }
+
+    @ParameterizedTest(name = "testGetRecordNotRecord - " + ParameterizedTest.DEFAULT_DISPLAY_NAME)
+    @MethodSource(value = "net.kemuri9.invoke.test.InvokeUtilsTest#getTypes")
+    public void testGetRecordNotRecord(Class<?> type) {
+        // records are only supported starting in java 16
+        Class<? extends Exception> expected = TestUtils.isAtLeastJava(16)
+                ? IllegalArgumentException.class : UnsupportedOperationException.class;
+        Assertions.assertThrows(expected, ()-> InvokeUtils.getRecord(InvokeUtils.getFullAccessLookup(), type));
+    }
+
+    @ParameterizedTest(name = "testGetRecordNull - " + ParameterizedTest.DEFAULT_DISPLAY_NAME)
+    @MethodSource(value = "net.kemuri9.invoke.test.InvokeUtilsTest#getLookups")
+    public void testGetRecordNull(MethodHandles.Lookup lookup) {
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.getRecord(lookup, null));
+    }
+
     @Test
     public void testInvokeHandleNull() {
         Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.invoke(null));
@@ -634,10 +682,33 @@ public class InvokeUtilsTest {
                 .findStatic(getClass(), "getTypes", MethodType.methodType(Stream.class));
         Stream<Arguments> typeArgs = InvokeUtils.invokeQuietly(handle);
         Assertions.assertNotNull(typeArgs);
+        Assertions.assertNotNull(InvokeUtils.invokeQuietly(handle, (Object[]) null));
         Assertions.assertTrue(typeArgs instanceof Stream);
         Function<Stream<Arguments>, List<Object>> flatten = (stream)-> stream.map(Arguments::get).map(Arrays::asList)
                 .flatMap(List::stream).collect(Collectors.toList());
         Assertions.assertEquals(flatten.apply(getTypes()), flatten.apply(typeArgs));
+
+        // arguments that can not be applied
+        MethodHandle concat = MethodHandles.publicLookup().findVirtual(String.class, "concat",
+                MethodType.methodType(String.class, String.class));
+        Assertions.assertEquals("ab", InvokeUtils.invokeQuietly(concat, "a", "b"));
+        Assertions.assertNull(InvokeUtils.invokeQuietly(concat, "a"));
+        Assertions.assertNull(InvokeUtils.invokeQuietly(concat, "a", 5));
+        MethodHandle max = MethodHandles.publicLookup().findStatic(Math.class, "max",
+                MethodType.methodType(long.class, long.class, long.class));
+        Assertions.assertEquals(5L, (Long) InvokeUtils.invokeQuietly(max, 5, 2L));
+        Assertions.assertNull(InvokeUtils.invokeQuietly(max, null, 2L));
+    }
+
+    @Test
+    public void testResetFullAccessLookup() {
+        MethodHandles.Lookup lookup = InvokeUtils.getFullAccessLookup();
+        InvokeUtils.resetFullAccessLookup();
+        Assertions.assertFalse(InvokeUtils.getFullAccessReport().contains("succeeded"));
+        MethodHandles.Lookup reset = InvokeUtils.getFullAccessLookup();
+        Assertions.assertNotNull(reset);
+        Assertions.assertEquals(lookup.lookupClass(), reset.lookupClass());
+        Assertions.assertTrue(InvokeUtils.getFullAccessReport().contains("succeeded"));
     }
 
     @Test
@@ -649,6 +720,100 @@ public class InvokeUtilsTest {
         Assertions.assertSame(lookup, InvokeUtils.getDefaultLookup());
     }
 
+    @Test
+    public void testSetExceptionStackTraces() {
+        try {
+            InvokeUtils.setExceptionStackTraces(false);
+            RuntimeException ex = Assertions.assertThrows(RuntimeException.class,
+                    ()-> InvokeUtils.invoke(TestUtils.HANDLE_THROW_IO_EX));
+            Assertions.assertTrue(ex.getCause() instanceof IOException);
+            Assertions.assertEquals(0, ex.getStackTrace().length);
+            Assertions.assertNotEquals(0, ex.getCause().getStackTrace().length);
+
+            InvokeUtils.setExceptionStackTraces(true);
+            ex = Assertions.assertThrows(RuntimeException.class, ()-> InvokeUtils.invoke(TestUtils.HANDLE_THROW_IO_EX));
+            Assertions.assertNotEquals(0, ex.getStackTrace().length);
+        } finally {
+            InvokeUtils.setExceptionStackTraces(true);
+        }
+    }
+
+    private static Set<String> memberKeys(Stream<? extends Member> members, Function<Object, MethodType> getType) {
+        return members.filter((m)-> !m.isSynthetic())
+                .map((m)-> m.getDeclaringClass().getName() + "#" + m.getName() + getType.apply(m))
+                .collect(Collectors.toSet());
+    }
+
+    private static MethodType getExecutableType(Object executable) {
+        InvokeExecutable<?> exec = (InvokeExecutable<?>) executable;
+        /* the receiver type can vary between the reflection and lookup variations,
+         * as the lookup variation may restrict it to the lookup class */
+        return (Modifier.isStatic(exec.getModifiers()) || exec.getType().parameterCount() == 0
+                || exec.getName().equals(exec.getDeclaringClass().getName()))
+                ? exec.getType() : exec.getType().dropParameterTypes(0, 1);
+    }
+
+    private static MethodType getFieldType(Object field) {
+        return ((InvokeField) field).getType();
+    }
+
+    @ParameterizedTest(name = "testStreamConstructors - " + ParameterizedTest.DEFAULT_DISPLAY_NAME)
+    @MethodSource(value = "net.kemuri9.invoke.test.InvokeUtilsTest#getFullAccessLookups")
+    public void testStreamConstructors(MethodHandles.Lookup lookup, Class<?> type) {
+        Set<String> expected = memberKeys(InvokeUtils.getConstructors(lookup, type).stream(),
+                InvokeUtilsTest::getExecutableType);
+        Assertions.assertEquals(expected, memberKeys(InvokeUtils.streamConstructors(lookup, type),
+                InvokeUtilsTest::getExecutableType));
+        Assertions.assertEquals(expected, memberKeys(InvokeUtils.streamConstructors(lookup, type).parallel(),
+                InvokeUtilsTest::getExecutableType));
+    }
+
+    @ParameterizedTest(name = "testStreamFields - " + ParameterizedTest.DEFAULT_DISPLAY_NAME)
+    @MethodSource(value = "net.kemuri9.invoke.test.InvokeUtilsTest#getFullAccessLookups")
+    public void testStreamFields(MethodHandles.Lookup lookup, Class<?> type) {
+        for (boolean inherited : new boolean[] { false, true }) {
+            Set<String> expected = memberKeys(InvokeUtils.getFields(lookup, type, inherited).stream(),
+                    InvokeUtilsTest::getFieldType);
+            Assertions.assertEquals(expected, memberKeys(InvokeUtils.streamFields(lookup, type, inherited),
+                    InvokeUtilsTest::getFieldType));
+            Assertions.assertEquals(expected, memberKeys(InvokeUtils.streamFields(lookup, type, inherited).parallel(),
+                    InvokeUtilsTest::getFieldType));
+        }
+    }
+
+    @ParameterizedTest(name = "testStreamMethods - " + ParameterizedTest.DEFAULT_DISPLAY_NAME)
+    @MethodSource(value = "net.kemuri9.invoke.test.InvokeUtilsTest#getPublicAccessLookups")
+    public void testStreamMethods(MethodHandles.Lookup lookup, Class<?> type) {
+        for (boolean inherited : new boolean[] { false, true }) {
+            Set<String> expected = memberKeys(InvokeUtils.getMethods(lookup, type, inherited).stream(),
+                    InvokeUtilsTest::getExecutableType);
+            Assertions.assertEquals(expected, memberKeys(InvokeUtils.streamMethods(lookup, type, inherited),
+                    InvokeUtilsTest::getExecutableType));
+            Assertions.assertEquals(expected, memberKeys(InvokeUtils.streamMethods(lookup, type, inherited).parallel(),
+                    InvokeUtilsTest::getExecutableType));
+        }
+    }
+
+    @ParameterizedTest(name = "testStreamNull - " + ParameterizedTest.DEFAULT_DISPLAY_NAME)
+    @MethodSource(value = "net.kemuri9.invoke.test.InvokeUtilsTest#getLookups")
+    public void testStreamNull(MethodHandles.Lookup lookup) {
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.streamConstructors(lookup, null));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.streamFields(lookup, null, true));
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> InvokeUtils.streamMethods(lookup, null, true));
+    }
+
+    @Test
+    public void testStreamShortCircuit() {
+        InvokeExecutable<?> method = InvokeUtils.streamMethods(null, Type2.class, true)
+                .filter((m)-> "ido1".equals(m.getName())).findFirst().orElse(null);
+        Assertions.assertNotNull(method);
+        Assertions.assertEquals(Type1.class, method.getDeclaringClass());
+        Assertions.assertTrue(InvokeUtils.streamFields(null, Type1.class, false)
+                .anyMatch((f)-> "I2".equals(f.getName())));
+        Assertions.assertFalse(InvokeUtils.streamFields(null, Type1.class, false)
+                .anyMatch((f)-> "I4".equals(f.getName())));
+    }
+
     @ParameterizedTest(name = "testUnreflectElementNull - " + ParameterizedTest.DEFAULT_DISPLAY_NAME)
     @MethodSource(value = "net.kemuri9.invoke.test.InvokeUtilsTest#getLookups")
     public void testUnreflectElementNull(MethodHandles.Lookup lookup) throws IllegalAccessException {
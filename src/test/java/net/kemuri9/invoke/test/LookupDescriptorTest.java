@@ -0,0 +1,80 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke.test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import net.kemuri9.invoke.InvokeExecutable;
+import net.kemuri9.invoke.InvokeUtils;
+
+import test.Type1;
+
+public class LookupDescriptorTest {
+
+    private static InvokeExecutable<Object> OF;
+    private static InvokeExecutable<Boolean> IS_FULL;
+
+    @BeforeAll
+    public static void beforeAll() throws Exception {
+        Class<?> type = Class.forName("net.kemuri9.invoke.LookupDescriptor");
+        Method of = type.getDeclaredMethod("of", MethodHandles.Lookup.class);
+        Method isFull = type.getDeclaredMethod("isFull");
+        OF = InvokeUtils.getMethod(InvokeUtils.getFullAccessLookup(), of);
+        IS_FULL = InvokeUtils.getMethod(InvokeUtils.getFullAccessLookup(), isFull);
+    }
+
+    private static Object describe(MethodHandles.Lookup lookup) {
+        return OF.invoke(lookup);
+    }
+
+    @Test
+    public void testEquality() {
+        // each call produces a distinct Lookup instance of the same access
+        Object descriptor = describe(MethodHandles.lookup());
+        Assertions.assertEquals(descriptor, describe(MethodHandles.lookup()));
+        Assertions.assertEquals(descriptor.hashCode(), describe(MethodHandles.lookup()).hashCode());
+        Assertions.assertEquals(describe(MethodHandles.publicLookup()), describe(MethodHandles.publicLookup()));
+        Assertions.assertNotEquals(descriptor, describe(MethodHandles.publicLookup()));
+        Assertions.assertNotEquals(descriptor, describe(Type1.lookup()));
+        // descriptors are retained, rather than created for each lookup
+        Assertions.assertSame(descriptor, describe(MethodHandles.lookup()));
+        Assertions.assertSame(describe(InvokeUtils.getFullAccessLookup()), describe(InvokeUtils.getFullAccessLookup()));
+    }
+
+    @Test
+    public void testEqualityTeleported() {
+        Object teleported = describe(MethodHandles.lookup().in(Type1.class));
+        Assertions.assertEquals(teleported, describe(MethodHandles.lookup().in(Type1.class)));
+        Assertions.assertEquals(teleported.hashCode(), describe(MethodHandles.lookup().in(Type1.class)).hashCode());
+        // teleporting reduces the access, so it differs from both the origin and the destination
+        Assertions.assertNotEquals(teleported, describe(MethodHandles.lookup()));
+        Assertions.assertNotEquals(teleported, describe(Type1.lookup()));
+    }
+
+    @Test
+    public void testFull() {
+        MethodHandles.Lookup full = InvokeUtils.getFullAccessLookup();
+        Assertions.assertTrue(IS_FULL.invoke(describe(full)));
+        Assertions.assertEquals(describe(full), describe(InvokeUtils.getFullAccessLookup()));
+        Assertions.assertFalse(IS_FULL.invoke(describe(full.in(Type1.class))));
+        Assertions.assertFalse(IS_FULL.invoke(describe(MethodHandles.lookup())));
+    }
+}
@@ -0,0 +1,218 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke.test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import net.kemuri9.invoke.InvokeInstantiator;
+import net.kemuri9.invoke.InvokeUtils;
+
+import test.Order;
+import test.Type1;
+
+/**
+ * Multithreaded benchmark of the throughput of member resolution.
+ * <p>
+ * Each operation is measured with 1 to N platform threads, doubling each step, and with N tasks on a virtual thread
+ * executor when the runtime supports virtual threads. The operations are measured on the reflection path, and on
+ * the lookup path by installing a security manager when the runtime allows it
+ * ({@code -Djava.security.manager=allow} on Java 18+).
+ * <p>
+ * Arguments are the seconds to measure each scenario for (default 2) and N (default twice the processor count).
+ * This is not a unit test and is ran through the {@code benchmark} task.
+ */
+public final class ResolutionBenchmark {
+
+    @FunctionalInterface
+    private interface Operation {
+        void run() throws Throwable;
+    }
+
+    private static final Field FIELD;
+    private static final Method METHOD;
+    /** factory of virtual thread executors, {@code null} when the runtime does not support virtual threads */
+    private static final MethodHandle VIRTUAL_EXECUTOR;
+
+    static {
+        try {
+            FIELD = Type1.class.getField("I2");
+            METHOD = Type1.class.getMethod("ido1", String.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+        MethodHandle virtualExecutor = null;
+        try {
+            virtualExecutor = MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            // virtual threads are not supported
+        }
+        VIRTUAL_EXECUTOR = virtualExecutor;
+    }
+
+    private static Map<String, Operation> getOperations() throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        // instantiation is measured apart from its resolution
+        InvokeInstantiator<Type1> instantiator = InvokeUtils.instantiator(lookup, Type1.class);
+        InvokeInstantiator<Order.Address> allocator = InvokeUtils.instantiator(lookup, Order.Address.class);
+        Constructor<Type1> constructor = Type1.class.getConstructor();
+        Map<String, Operation> operations = new LinkedHashMap<>();
+        operations.put("getFields", ()-> InvokeUtils.getFields(lookup, Type1.class, true));
+        operations.put("getMethods", ()-> InvokeUtils.getMethods(lookup, Type1.class, true));
+        operations.put("getConstructors", ()-> InvokeUtils.getConstructors(lookup, Type1.class));
+        operations.put("getField", ()-> InvokeUtils.getField(lookup, FIELD));
+        operations.put("getMethod", ()-> InvokeUtils.getMethod(lookup, METHOD));
+        operations.put("getMethod(default)", ()-> InvokeUtils.getMethod(null, METHOD));
+        operations.put("instantiator", instantiator::get);
+        operations.put("instantiator(alloc)", allocator::get);
+        operations.put("newInstance", constructor::newInstance);
+        return operations;
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() throws Throwable {
+        return (ExecutorService) VIRTUAL_EXECUTOR.invokeExact();
+    }
+
+    private static boolean setSecurityManager(SecurityManager sm) {
+        if (TestUtils.isAtLeastJava(18) && !"allow".equals(System.getProperty("java.security.manager"))) {
+            return false;
+        }
+        try {
+            System.setSecurityManager(sm);
+            return true;
+        } catch (UnsupportedOperationException | SecurityException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Measure the throughput of an operation
+     * @param executor {@link ExecutorService} to execute with
+     * @param tasks number of concurrent tasks
+     * @param operation {@link Operation} to measure
+     * @param nanos duration to measure for
+     * @return operations per second
+     */
+    private static double measure(ExecutorService executor, int tasks, Operation operation, long nanos)
+            throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>(tasks);
+        long[] deadline = new long[1];
+        for (int i = 0; i < tasks; ++i) {
+            results.add(executor.submit(()-> {
+                start.await();
+                long count = 0;
+                while (System.nanoTime() < deadline[0]) {
+                    try {
+                        operation.run();
+                    } catch (Throwable t) {
+                        throw new IllegalStateException(t);
+                    }
+                    ++count;
+                }
+                return count;
+            }));
+        }
+        long begin = System.nanoTime();
+        deadline[0] = begin + nanos;
+        start.countDown();
+        long total = 0;
+        for (Future<Long> result : results) {
+            total += result.get();
+        }
+        return total * (double) TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - begin);
+    }
+
+    private static void run(String path, Map<String, Operation> operations, int maxThreads, long nanos)
+            throws Throwable {
+        for (Map.Entry<String, Operation> operation : operations.entrySet()) {
+            StringBuilder line = new StringBuilder(128);
+            line.append(String.format("%-10s %-20s", path, operation.getKey()));
+            for (int threads = 1; threads <= maxThreads; threads *= 2) {
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                try {
+                    // warm up prior to measuring
+                    measure(executor, threads, operation.getValue(), nanos / 2);
+                    double opsPerSec = measure(executor, threads, operation.getValue(), nanos);
+                    line.append(String.format(" %12.0f", opsPerSec));
+                } catch (ExecutionException ex) {
+                    line.append(String.format(" %12s", "failed"));
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+            if (VIRTUAL_EXECUTOR != null) {
+                ExecutorService executor = newVirtualThreadExecutor();
+                try {
+                    measure(executor, maxThreads, operation.getValue(), nanos / 2);
+                    line.append(String.format(" %12.0f", measure(executor, maxThreads, operation.getValue(), nanos)));
+                } catch (ExecutionException ex) {
+                    line.append(String.format(" %12s", "failed"));
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+            System.out.println(line);
+        }
+    }
+
+    public static void main(String[] args) throws Throwable {
+        long nanos = TimeUnit.SECONDS.toNanos((args.length > 0) ? Long.parseLong(args[0]) : 2);
+        int maxThreads = (args.length > 1) ? Integer.parseInt(args[1])
+                : Runtime.getRuntime().availableProcessors() * 2;
+
+        StringBuilder header = new StringBuilder(128);
+        header.append(String.format("%-10s %-20s", "path", "operation (ops/s)"));
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            header.append(String.format(" %12s", threads + " threads"));
+        }
+        if (VIRTUAL_EXECUTOR != null) {
+            header.append(String.format(" %12s", maxThreads + " virtual"));
+        }
+        System.out.println("java " + System.getProperty("java.version") + ", "
+                + Runtime.getRuntime().availableProcessors() + " processors");
+        System.out.println(header);
+
+        Map<String, Operation> operations = getOperations();
+        run("reflection", operations, maxThreads, nanos);
+        if (setSecurityManager(new TestSecurityManager())) {
+            try {
+                run("lookup", operations, maxThreads, nanos);
+            } finally {
+                setSecurityManager(null);
+            }
+        } else {
+            System.out.println("lookup path skipped, as a security manager cannot be installed");
+        }
+    }
+
+    private ResolutionBenchmark() {}
+}
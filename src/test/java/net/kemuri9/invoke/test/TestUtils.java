@@ -20,6 +20,9 @@ import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 public class TestUtils {
 
@@ -37,6 +40,11 @@ public class TestUtils {
         return javaVersionInt >= version;
     }
 
+    @SafeVarargs
+    public static <T> Set<T> setOf(T... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+
     public static <T> T getValue(T value) {
         return value;
     }
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kemuri9.invoke.test;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.kemuri9.invoke.InvokeUtils;
+import net.kemuri9.invoke.WarmupManifest;
+
+import test.IFace1;
+import test.Type1;
+
+public class WarmupManifestTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    public void afterEach() throws IOException {
+        WarmupManifest.stopRecording();
+    }
+
+    @Test
+    public void testPreload() throws IOException {
+        Path manifest = tempDir.resolve("manifest");
+        List<String> entries = Arrays.asList(
+                "# comment",
+                "FIELD\t*\t-1\ttest.Type1\tI3\t()J",
+                "METHODS\t*\t-1\ttest.Type1\ttrue\t()V",
+                "METHOD\t" + MethodHandles.publicLookup().lookupClass().getName() + "\t"
+                    + MethodHandles.publicLookup().lookupModes()
+                    + "\ttest.Type1\tsdo1\t(Ljava/lang/String;)Ljava/lang/String;",
+                // stale entries are skipped
+                "FIELD\t*\t-1\ttest.Type1\tmissing\t()J",
+                "CONSTRUCTOR\t*\t-1\ttest.Missing\t<init>\t()V",
+                "invalid");
+        Files.write(manifest, entries, StandardCharsets.UTF_8);
+        Assertions.assertEquals(3, WarmupManifest.preload(manifest));
+    }
+
+    @Test
+    public void testPreloadAccess() throws IOException {
+        Path manifest = tempDir.resolve("manifest");
+        String method = "\ttest.Type1\tsdo1\t(Ljava/lang/String;)Ljava/lang/String;";
+        List<String> entries = Arrays.asList(
+                "METHOD\ttest.Type1\t" + Type1.lookup().lookupModes() + method,
+                // more access than the lookup class can have over itself is never replayed
+                "METHOD\ttest.Type1\t" + (Type1.lookup().lookupModes() | 0x4000) + method);
+        Files.write(manifest, entries, StandardCharsets.UTF_8);
+        Assertions.assertEquals(1, WarmupManifest.preload(manifest));
+
+        // reduced access is recreated where the lookup modes can be dropped
+        MethodHandles.Lookup packageLookup = Type1.lookup().in(IFace1.class);
+        Files.write(manifest, Arrays.asList("METHOD\ttest.IFace1\t" + packageLookup.lookupModes() + method),
+                StandardCharsets.UTF_8);
+        Assertions.assertEquals(TestUtils.isJava8() ? 0 : 1, WarmupManifest.preload(manifest));
+    }
+
+    @Test
+    public void testPreloadNull() {
+        Assertions.assertThrows(IllegalArgumentException.class, ()-> WarmupManifest.preload(null));
+    }
+
+    @Test
+    public void testRecord() throws Exception {
+        Path manifest = tempDir.resolve("manifest");
+        Assertions.assertFalse(WarmupManifest.isRecording());
+        WarmupManifest.startRecording(manifest);
+        Assertions.assertTrue(WarmupManifest.isRecording());
+        Assertions.assertThrows(IllegalStateException.class, ()-> WarmupManifest.startRecording(manifest));
+
+        MethodHandles.Lookup fullAccess = InvokeUtils.getFullAccessLookup();
+        InvokeUtils.getField(fullAccess, Type1.class.getDeclaredField("I3"));
+        // repeated resolutions are only recorded once
+        InvokeUtils.getField(fullAccess, Type1.class.getDeclaredField("I3"));
+        InvokeUtils.getMethod(null, Type1.class.getMethod("sdo1", String.class));
+        InvokeUtils.getConstructor(Type1.lookup(), Type1.class.getDeclaredConstructor(boolean.class));
+        InvokeUtils.getFields(fullAccess, Type1.class, true);
+        InvokeUtils.getMethods(fullAccess, Type1.class, false);
+        InvokeUtils.getConstructors(fullAccess, Type1.class);
+        WarmupManifest.stopRecording();
+        Assertions.assertFalse(WarmupManifest.isRecording());
+
+        List<String> lines = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+        Assertions.assertEquals(7, lines.size(), lines::toString);
+        Assertions.assertTrue(lines.get(0).startsWith("#"));
+        Assertions.assertTrue(lines.contains("FIELD\t*\t-1\ttest.Type1\tI3\t()J"), lines::toString);
+        Assertions.assertTrue(lines.contains("FIELDS\t*\t-1\ttest.Type1\ttrue\t()V"), lines::toString);
+        Assertions.assertTrue(lines.contains("CONSTRUCTOR\ttest.Type1\t" + Type1.lookup().lookupModes()
+                + "\ttest.Type1\ttest.Type1\t(Z)V"), lines::toString);
+
+        // resolutions after recording stops are not recorded
+        InvokeUtils.getMethods(fullAccess, Type1.class, true);
+        Assertions.assertEquals(lines, Files.readAllLines(manifest, StandardCharsets.UTF_8));
+
+        // everything recorded can be preloaded
+        Assertions.assertEquals(6, WarmupManifest.preload(manifest, null));
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Type with annotated members for annotation index tests
+ */
+@SuppressWarnings("unused")
+public class Annotated1 {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ ElementType.CONSTRUCTOR, ElementType.FIELD, ElementType.METHOD })
+    public static @interface Marker {
+        String value();
+    }
+
+    @Marker("field1")
+    public String field1;
+
+    @Marker("field2")
+    private String field2;
+
+    public String unmarked;
+
+    @Marker("ctor")
+    public Annotated1() {}
+
+    public Annotated1(String unused) {}
+
+    @Marker("method1")
+    public void method1() {}
+
+    @Marker("method2")
+    @Deprecated
+    private void method2() {}
+
+    public void unmarked() {}
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package test;
+
+/**
+ * JavaBean style type for property tests
+ */
+@SuppressWarnings("unused")
+public class Bean1 {
+
+    private String name;
+    private boolean active;
+    private int count;
+    private final long id;
+    private Object writeOnly;
+    private String url;
+
+    public Bean1() {
+        this(1);
+    }
+
+    public Bean1(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setWriteOnly(Object writeOnly) {
+        this.writeOnly = writeOnly;
+    }
+
+    public String getURL() {
+        return url;
+    }
+
+    public void setURL(String url) {
+        this.url = url;
+    }
+
+    public void setURL(Integer port) {
+        this.url = "localhost:" + port;
+    }
+
+    public static String getStatic() {
+        return "static";
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package test;
+
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Type with fields of each encodable type for codec tests
+ */
+public class Encoded extends Order.Address {
+
+    public boolean z;
+    public byte b;
+    public char c;
+    public short s;
+    public int i;
+    public long j;
+    public float f;
+    public double d;
+    public Integer boxed;
+    public String string;
+    public RetentionPolicy policy;
+    private final long id;
+    public transient Object ignored;
+
+    public Encoded(long id) {
+        super("city", 5);
+        this.id = id;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
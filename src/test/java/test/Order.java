@@ -0,0 +1,58 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package test;
+
+/**
+ * Type with nested private fields for path tests
+ */
+public class Order {
+
+    public static class Address {
+        private String city;
+        private int number;
+        private final String country = "CA";
+
+        public Address(String city, int number) {
+            this.city = city;
+            this.number = number;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+    }
+
+    public static class Customer {
+        private Address address;
+        public String name;
+
+        public Customer(String name, Address address) {
+            this.name = name;
+            this.address = address;
+        }
+    }
+
+    private Customer customer;
+    public int count;
+
+    public Order(Customer customer) {
+        this.customer = customer;
+    }
+}
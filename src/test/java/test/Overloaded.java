@@ -0,0 +1,87 @@
+/**
+ * Copyright 2021,2022 Steven Walters
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package test;
+
+/**
+ * Type with overloaded methods for selection tests
+ */
+public class Overloaded {
+
+    public static String f(Object o) {
+        return "Object";
+    }
+
+    public static String f(Number n) {
+        return "Number";
+    }
+
+    public static String f(String s) {
+        return "String";
+    }
+
+    public static String f(Object o, Object o2) {
+        return "Object,Object";
+    }
+
+    public static String g(int i) {
+        return "int";
+    }
+
+    public static String g(long l) {
+        return "long";
+    }
+
+    public static String g(double d) {
+        return "double";
+    }
+
+    public static String k(Object o, String s) {
+        return "Object,String";
+    }
+
+    public static String k(String s, Object o) {
+        return "String,Object";
+    }
+
+    public String h(CharSequence s) {
+        return "CharSequence";
+    }
+
+    public String h(String s) {
+        return "String";
+    }
+
+    public String m(String s) {
+        return "String";
+    }
+
+    @Override
+    public String toString() {
+        return "Overloaded";
+    }
+
+    public static class Sub extends Overloaded {
+
+        @Override
+        public String h(String s) {
+            return "Sub.String";
+        }
+
+        public String m(Object o) {
+            return "Sub.Object";
+        }
+    }
+}